@@ -0,0 +1,19 @@
+import "dotenv/config"
+import { NodeSDK } from "@opentelemetry/sdk-node"
+import { HttpInstrumentation } from "@opentelemetry/instrumentation-http"
+import { ConsoleSpanExporter } from "@opentelemetry/sdk-trace-base"
+import { OTLPTraceExporter } from "@opentelemetry/exporter-trace-otlp-http"
+
+// Traces incoming requests and the axios calls to user-service, with the same W3C trace context headers as the
+// Spring services. Spans are printed to the console unless OTEL_EXPORTER_OTLP_ENDPOINT points at a collector.
+// Must be the first import of index.js so http is patched before express and axios load it.
+const sdk = new NodeSDK({
+    serviceName: "auth-service",
+    traceExporter: process.env.OTEL_EXPORTER_OTLP_ENDPOINT ? new OTLPTraceExporter() : new ConsoleSpanExporter(),
+    instrumentations: [new HttpInstrumentation()]
+})
+sdk.start()
+
+process.on("SIGTERM", () => {
+    sdk.shutdown().finally(() => process.exit(0))
+})
@@ -1,3 +1,4 @@
+import "./config/tracing.js"
 import express from "express"
 import cors from "cors"
 import dotenv from "dotenv"
@@ -8,6 +8,7 @@ import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.retry.interceptor.RetryOperationsInterceptor;
 
 @Configuration
@@ -53,6 +54,9 @@ public class RabbitConfig {
     @Value("${app.rabbitmq.queue.task-assigned}")
     private String taskAssignedQueue;
 
+    @Value("${app.rabbitmq.queue.task-reminder}")
+    private String taskReminderQueue;
+
     // --- Routing Keys ---
     public static final String PROJECT_CREATED_KEY = "project.created";
     public static final String PROJECT_MEMBER_ADDED_KEY = "project.member.added";
@@ -64,6 +68,7 @@ public class RabbitConfig {
     public static final String ROLE_UPDATED_KEY = "email.member.role.updated";
     public static final String NEW_LEAD_ASSIGNED_KEY = "project.new.lead.assigned";
     public static final String TASK_ASSIGNED_KEY = "task.assigned";
+    public static final String TASK_REMINDER_KEY = "task.reminder";
 
     // --- DLQ Constants ---
     public static final String DLQ_EXCHANGE = "dead-letter.exchange";
@@ -140,6 +145,9 @@ public class RabbitConfig {
     @Bean public Queue taskAssignedQueue() { return createQueueWithDlq(taskAssignedQueue, TASK_ASSIGNED_KEY); }
     @Bean public Queue taskAssignedQueueDlq() { return createDlq(taskAssignedQueue); }
 
+    @Bean public Queue taskReminderQueue() { return createQueueWithDlq(taskReminderQueue, TASK_REMINDER_KEY); }
+    @Bean public Queue taskReminderQueueDlq() { return createDlq(taskReminderQueue); }
+
     // ----------------------------------------------------------------
     // 4. BINDINGS
     // ----------------------------------------------------------------
@@ -180,6 +188,15 @@ public class RabbitConfig {
         return BindingBuilder.bind(taskAssignedQueueDlq()).to(deadLetterExchange()).with(TASK_ASSIGNED_KEY);
     }
 
+    @Bean
+    public Binding taskReminderBinding(){
+        return BindingBuilder.bind(taskReminderQueue()).to(taskExchange()).with(TASK_REMINDER_KEY);
+    }
+    @Bean
+    public Binding taskReminderDlqBinding(){
+        return BindingBuilder.bind(taskReminderQueueDlq()).to(deadLetterExchange()).with(TASK_REMINDER_KEY);
+    }
+
     // --- ✅ ADDED: EMAIL BINDINGS (Bound to eventExchange) ---
     @Bean
     public Binding inviteBinding() {
@@ -230,17 +247,25 @@ public class RabbitConfig {
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
         template.setMessageConverter(messageConverter());
+        template.setObservationEnabled(true);
         return template;
     }
 
     @Bean
-    public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(ConnectionFactory connectionFactory) {
+    public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(ConnectionFactory connectionFactory,
+                                                                               @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
         SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
         factory.setConnectionFactory(connectionFactory);
         factory.setMessageConverter(messageConverter());
         factory.setConcurrentConsumers(3);
         factory.setMaxConcurrentConsumers(10);
         factory.setAdviceChain(retryInterceptor());
+        // Times every delivery as spring.rabbit.listener, per listener id
+        factory.setObservationEnabled(true);
+        // This factory replaces Boot's auto-configured one, so it has to opt into virtual threads itself
+        if (virtualThreads) {
+            factory.setTaskExecutor(new VirtualThreadTaskExecutor("rabbit-listener-"));
+        }
         return factory;
     }
 
@@ -0,0 +1,21 @@
+package com.notification.notification_service.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskReminderEvent {
+    private String assignedUserId;
+    private String userEmail;
+    private String userFullName;
+    // DUE_SOON or OVERDUE
+    private String kind;
+    private List<TaskReminderItem> tasks;
+    private LocalDateTime timestamp;
+}
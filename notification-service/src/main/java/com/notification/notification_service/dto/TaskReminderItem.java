@@ -0,0 +1,17 @@
+package com.notification.notification_service.dto;
+
+import lombok.*;
+
+import java.time.OffsetDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskReminderItem {
+    private String taskId;
+    private String taskTitle;
+    private String projectId;
+    private OffsetDateTime dueDate;
+}
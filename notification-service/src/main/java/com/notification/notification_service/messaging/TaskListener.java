@@ -1,6 +1,7 @@
 package com.notification.notification_service.messaging;
 
 import com.notification.notification_service.dto.TaskAssignedEvent;
+import com.notification.notification_service.dto.TaskReminderEvent;
 import com.notification.notification_service.service.EmailService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
@@ -18,4 +19,10 @@ public class TaskListener {
         log.info("Task assigned event received: {}", event);
         emailService.sendTaskAssignedEmail(event);
     }
+    @RabbitListener(queues = "${app.rabbitmq.queue.task-reminder}")
+    public void listenReminder(TaskReminderEvent event){
+        log.info("Task reminder event received: {} {} tasks for {}",
+                event.getKind(), event.getTasks().size(), event.getAssignedUserId());
+        emailService.sendTaskReminderEmail(event);
+    }
 }
@@ -3,7 +3,10 @@ package com.notification.notification_service.service;
 import com.notification.notification_service.dto.EmailEvent;
 import com.notification.notification_service.dto.EmailRequest;
 import com.notification.notification_service.dto.TaskAssignedEvent;
+import com.notification.notification_service.dto.TaskReminderEvent;
+import com.notification.notification_service.dto.TaskReminderItem;
 import com.notification.notification_service.dto.UserInvitedEvent;
+import io.micrometer.core.annotation.Timed;
 import jakarta.mail.internet.MimeMessage;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ClassPathResource;
@@ -12,6 +15,7 @@ import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StreamUtils;
+import org.springframework.web.util.HtmlUtils;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -20,6 +24,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
 
+@Timed("service.method")
 @Service
 @Slf4j
 public class EmailService {
@@ -250,4 +255,55 @@ public class EmailService {
             throw new RuntimeException("Failed to send email", e);
         }
     }
+
+    public void sendTaskReminderEmail(TaskReminderEvent event) {
+        try {
+            log.info("Processing {} reminder email for user: {}", event.getKind(), event.getUserEmail());
+
+            String htmlTemplate = loadEmailTemplate("task-reminder");
+            boolean overdue = "OVERDUE".equals(event.getKind());
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMM dd, yyyy HH:mm a");
+
+            // 1. One table row per task; titles are user input, so they are escaped before going into HTML
+            StringBuilder rows = new StringBuilder();
+            for (TaskReminderItem task : event.getTasks()) {
+                String dueDate = task.getDueDate() != null ? task.getDueDate().format(formatter) : "N/A";
+                rows.append("<tr>")
+                        .append("<td><a href=\"http://localhost:5173/tasks/").append(task.getTaskId()).append("\">")
+                        .append(HtmlUtils.htmlEscape(task.getTaskTitle())).append("</a></td>")
+                        .append("<td>").append(dueDate).append("</td>")
+                        .append("</tr>");
+            }
+
+            // 2. Prepare Variables for Replacement {{key}}
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("heading", overdue ? "Overdue Tasks" : "Tasks Due Soon");
+            variables.put("intro", overdue
+                    ? "The following tasks assigned to you are past their due date:"
+                    : "The following tasks assigned to you are due soon:");
+            variables.put("userFullName", event.getUserFullName());
+            variables.put("userEmail", event.getUserEmail());
+            variables.put("taskCount", event.getTasks().size());
+            variables.put("taskRows", rows.toString());
+
+            String processedHtml = replaceVariables(htmlTemplate, variables);
+
+            // 3. Create and Send Email
+            MimeMessage message = javaMailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+            helper.setTo(event.getUserEmail());
+            helper.setSubject((overdue ? "Overdue: " : "Due soon: ") + event.getTasks().size() + " task(s)");
+            helper.setText(processedHtml, true);
+            helper.setFrom("system@yourcompany.com");
+
+            javaMailSender.send(message);
+
+            log.info("Task reminder email sent successfully to {}", event.getUserEmail());
+
+        } catch (Exception e) {
+            log.error("Failed to send task reminder email to {}", event.getUserEmail(), e);
+            // Throwing exception allows RabbitMQ to retry if configured
+            throw new RuntimeException("Failed to send email", e);
+        }
+    }
 }
@@ -1,11 +1,17 @@
 package com.project.project_service;
 
+import com.taskmanager.shared.datasource.DataSourceRoutingConfig;
+import com.taskmanager.shared.feign.FeignObservationConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableFeignClients
+@EnableScheduling
+@Import({DataSourceRoutingConfig.class, FeignObservationConfig.class})
 public class ProjectServiceApplication {
 
 	public static void main(String[] args) {
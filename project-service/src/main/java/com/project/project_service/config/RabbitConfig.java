@@ -15,6 +15,10 @@ public class RabbitConfig {
     public static final String PROJECT_MEMBER_ADDED_KEY = "project.member.added";
     public static final String NEW_LEAD_ASSIGNED_KEY = "project.new.lead.assigned";
 
+    // Routing keys for lifecycle events consumed by other services
+    public static final String PROJECT_LIFECYCLE_CREATED_KEY = "project.lifecycle.created";
+    public static final String PROJECT_LIFECYCLE_DELETED_KEY = "project.lifecycle.deleted";
+
     @Bean
     public Jackson2JsonMessageConverter messageConverter() {
         return new Jackson2JsonMessageConverter();
@@ -25,6 +29,8 @@ public class RabbitConfig {
                                          Jackson2JsonMessageConverter converter) {
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
         rabbitTemplate.setMessageConverter(converter);
+        // Times every publish as spring.rabbit.template (this bean replaces Boot's, so the property would not apply)
+        rabbitTemplate.setObservationEnabled(true);
         return rabbitTemplate;
     }
 
@@ -0,0 +1,81 @@
+package com.project.project_service.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import feign.RequestInterceptor;
+import feign.codec.Decoder;
+import feign.codec.Encoder;
+import feign.optionals.OptionalDecoder;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.PageJacksonModule;
+import org.springframework.cloud.openfeign.support.PageableSpringEncoder;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SortJacksonModule;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringEncoder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+// Codec for TaskClient only; deliberately not a @Configuration, so the other clients keep plain JSON.
+// Task pages travel as Smile (binary JSON, same DTOs): field names are written once per payload and repeated
+// values are back-referenced, so a page is smaller and cheaper to parse. Gzip of large responses is negotiated
+// by HttpClient 5 on its own; large request bodies (long project id lists) are gzipped by the interceptor
+// below and inflated by task-service's GzipRequestFilter.
+public class TaskClientConfig {
+
+    // Runs after the encoder, so it sees the final Smile bytes. A plain byte count: Feign's child context has
+    // no conversion service for DataSize.
+    @Bean
+    public RequestInterceptor taskClientGzipRequests(@Value("${app.task-client.gzip-min-request-bytes:2048}") int minBytes) {
+        return template -> {
+            byte[] body = template.body();
+            if (body == null || body.length < minBytes) {
+                return;
+            }
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 2);
+            // Id lists are random hex: level 1 compresses them as well as the default level at under half the CPU
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed) {{ def.setLevel(Deflater.BEST_SPEED); }}) {
+                gzip.write(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            // Binary body: no charset, Content-Length follows the new length
+            template.body(compressed.toByteArray(), null);
+            template.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        };
+    }
+
+    @Bean
+    public Encoder taskClientEncoder(Jackson2ObjectMapperBuilder builder) {
+        return new PageableSpringEncoder(new SpringEncoder(converters(builder)));
+    }
+
+    @Bean
+    public Decoder taskClientDecoder(Jackson2ObjectMapperBuilder builder) {
+        return new OptionalDecoder(new ResponseEntityDecoder(new SpringDecoder(converters(builder))));
+    }
+
+    private static ObjectFactory<HttpMessageConverters> converters(Jackson2ObjectMapperBuilder builder) {
+        SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        // Page<T> has no creator Jackson can use; these are the modules the default Feign decoder relies on
+        ObjectMapper mapper = builder.factory(smileFactory).build()
+                .registerModules(new PageJacksonModule(), new SortJacksonModule());
+        HttpMessageConverters converters = new HttpMessageConverters(false,
+                List.of(new MappingJackson2SmileHttpMessageConverter(mapper)));
+        return () -> converters;
+    }
+}
@@ -0,0 +1,24 @@
+package com.project.project_service.config;
+
+import com.taskmanager.shared.tracing.SpanFileTracing;
+import io.micrometer.tracing.exporter.SpanExportingPredicate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.util.Set;
+
+// Span file export (off unless app.tracing.span-file is set) comes from the shared SpanFileTracing in shared/.
+// Setting MANAGEMENT_OTLP_TRACING_ENDPOINT additionally ships spans over OTLP/HTTP.
+@Configuration
+@Import(SpanFileTracing.class)
+public class TracingConfig {
+    // The replica probe runs every few seconds; each run would be a root span burying request traces in the span file
+    private static final Set<String> POLLER_SPANS = Set.of(
+            "task replica-routing-data-source.check-replicas");
+
+    @Bean
+    public SpanExportingPredicate skipPollerSpans() {
+        return span -> !POLLER_SPANS.contains(span.getName());
+    }
+}
@@ -0,0 +1,17 @@
+package com.project.project_service.dto;
+
+import lombok.*;
+
+import java.time.OffsetDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ProjectLifecycleEvent {
+    private String projectId;
+    private String orgId;
+    private String type; // CREATED or DELETED, mirrors the routing key
+    private OffsetDateTime timestamp;
+}
@@ -1,5 +1,6 @@
 package com.project.project_service.feign;
 
+import com.project.project_service.config.TaskClientConfig;
 import com.project.project_service.dto.TaskResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.data.domain.Page;
@@ -11,8 +12,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 
 import java.util.List;
 
-@FeignClient(name = "task-service", url = "http://localhost:8086")
+@FeignClient(name = "task-service", url = "http://localhost:8086", configuration = TaskClientConfig.class)
 public interface TaskClient {
-    @PostMapping("/api/tasks")
+    String SMILE = "application/x-jackson-smile";
+
+    // Internal call: Smile both ways (see TaskClientConfig); browsers calling task-service still get JSON
+    @PostMapping(value = "/api/tasks", consumes = SMILE, produces = SMILE)
     public Page<TaskResponse> getTasksByOrg(@RequestBody List<String> projectIds, @PageableDefault(size = 20) Pageable pageable);
 }
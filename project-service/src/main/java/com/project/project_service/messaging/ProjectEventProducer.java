@@ -0,0 +1,59 @@
+package com.project.project_service.messaging;
+
+import com.project.project_service.config.RabbitConfig;
+import com.project.project_service.dto.ProjectLifecycleEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.OffsetDateTime;
+
+// Lifecycle events let other services (task-service's project cache) react to creates and deletes.
+// They are sent after commit so nobody is told about a project that was rolled back.
+@Service
+@Slf4j
+public class ProjectEventProducer {
+    private final RabbitTemplate rabbitTemplate;
+
+    public ProjectEventProducer(RabbitTemplate rabbitTemplate) {
+        this.rabbitTemplate = rabbitTemplate;
+    }
+
+    public void projectCreated(String projectId, String orgId) {
+        sendAfterCommit(projectId, orgId, "CREATED", RabbitConfig.PROJECT_LIFECYCLE_CREATED_KEY);
+    }
+
+    public void projectDeleted(String projectId, String orgId) {
+        sendAfterCommit(projectId, orgId, "DELETED", RabbitConfig.PROJECT_LIFECYCLE_DELETED_KEY);
+    }
+
+    private void sendAfterCommit(String projectId, String orgId, String type, String routingKey) {
+        ProjectLifecycleEvent event = ProjectLifecycleEvent.builder()
+                .projectId(projectId)
+                .orgId(orgId)
+                .type(type)
+                .timestamp(OffsetDateTime.now())
+                .build();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(event, routingKey);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                send(event, routingKey);
+            }
+        });
+    }
+
+    private void send(ProjectLifecycleEvent event, String routingKey) {
+        try {
+            rabbitTemplate.convertAndSend(RabbitConfig.PROJECT_EXCHANGE, routingKey, event);
+        } catch (Exception e) {
+            // Consumers only use these for cache invalidation and fall back to TTL expiry
+            log.error("Failed to publish project lifecycle event for {}", event.getProjectId(), e);
+        }
+    }
+}
@@ -12,6 +12,8 @@ import java.util.List;
 public interface ProjectRepository extends JpaRepository<Project, String> {
     Project findByIdAndDeletedFalse(String projectId);
 
+    boolean existsByIdAndDeletedFalse(String projectId);
+
     List<Project> findAllByOrgIdAndDeletedFalse(String orgId);
 
     List<Project> findAllByIdInAndDeletedFalse(List<String> projectIds);
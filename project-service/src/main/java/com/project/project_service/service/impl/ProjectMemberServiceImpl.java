@@ -12,6 +12,7 @@ import com.project.project_service.model.Role;
 import com.project.project_service.repository.ProjectMemberRepository;
 import com.project.project_service.repository.ProjectRepository;
 import com.project.project_service.service.ProjectMemberService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +23,7 @@ import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Timed("service.method")
 @Service
 public class ProjectMemberServiceImpl implements ProjectMemberService {
     private final ProjectMemberRepository projectMemberRepository;
@@ -183,7 +185,7 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<ProjectMemberResponse> listMembers(String projectId) {
 
         List<ProjectMember> memberResponseList = projectMemberRepository.findByProjectId(projectId);
@@ -9,10 +9,12 @@ import com.project.project_service.feign.TenantClient;
 import com.project.project_service.feign.UserClient;
 import com.project.project_service.mapping.Mapping;
 import com.project.project_service.messaging.NotificationProducer;
+import com.project.project_service.messaging.ProjectEventProducer;
 import com.project.project_service.model.*;
 import com.project.project_service.repository.ProjectMemberRepository;
 import com.project.project_service.repository.ProjectRepository;
 import com.project.project_service.service.ProjectService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityManager;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +28,7 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 @Slf4j
+@Timed("service.method")
 @Service
 public class ProjectServiceImpl implements ProjectService {
 
@@ -35,16 +38,18 @@ public class ProjectServiceImpl implements ProjectService {
     private final UserClient userClient;
     private final TaskClient taskClient;
     private final NotificationProducer notificationProducer;
+    private final ProjectEventProducer projectEventProducer;
 
 
 
-    public ProjectServiceImpl(TenantClient tenantClient, ProjectRepository projectRepository, ProjectMemberRepository memberRepository, UserClient userClient, TaskClient taskClient, NotificationProducer notificationProducer) {
+    public ProjectServiceImpl(TenantClient tenantClient, ProjectRepository projectRepository, ProjectMemberRepository memberRepository, UserClient userClient, TaskClient taskClient, NotificationProducer notificationProducer, ProjectEventProducer projectEventProducer) {
         this.tenantClient = tenantClient;
         this.projectRepository = projectRepository;
         this.memberRepository = memberRepository;
         this.userClient = userClient;
         this.taskClient = taskClient;
         this.notificationProducer = notificationProducer;
+        this.projectEventProducer = projectEventProducer;
     }
     @Override
     @Transactional
@@ -76,6 +81,7 @@ public class ProjectServiceImpl implements ProjectService {
             if (!isSameUser) {
                 saveProjectMember(saved.getId(), req.getTeamLeadAuthId(), Role.LEAD);
             }
+            projectEventProducer.projectCreated(saved.getId(), saved.getOrgId());
             try {
                 sendCreationNotification(saved, owner, "Project Created Successfully",
                         "Your new project has been successfully initialized.", owner.getName(), teamLead.getName());
@@ -114,6 +120,7 @@ public class ProjectServiceImpl implements ProjectService {
         }
     }
     @Override
+    @Transactional(readOnly = true)
     public ProjectResponse getProject(String projectId) {
         Project project = projectRepository.findByIdAndDeletedFalse(projectId);
         if (project == null){
@@ -123,6 +130,7 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ProjectResponse> listByOrg(String orgId) {
         List<Project> projects= projectRepository.findAllByOrgIdAndDeletedFalse(orgId);
         return projects.stream()
@@ -348,11 +356,16 @@ public class ProjectServiceImpl implements ProjectService {
     project.setDeleted(true);
     project.setDeletedAt(OffsetDateTime.now());
     projectRepository.saveAndFlush(project);
+    projectEventProducer.projectDeleted(project.getId(), project.getOrgId());
     }
 
     @Override
+    @Transactional
     public Boolean validate(String projectId) {
-        return projectRepository.existsById(projectId);
+        // Read-write on purpose, so it runs on the primary: task-service asks right after a project is created
+        // and caches a "no", which a lagging replica must not produce.
+        // Soft-deleted projects no longer accept tasks
+        return projectRepository.existsByIdAndDeletedFalse(projectId);
     }
 
     @Override
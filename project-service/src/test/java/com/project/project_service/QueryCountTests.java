@@ -0,0 +1,127 @@
+package com.project.project_service;
+
+import com.project.project_service.dto.ProjectDetailResponse;
+import com.project.project_service.dto.ProjectMemberResponse;
+import com.project.project_service.dto.UserDetail;
+import com.project.project_service.feign.UserClient;
+import com.project.project_service.model.Project;
+import com.project.project_service.model.ProjectMember;
+import com.project.project_service.model.Role;
+import com.project.project_service.repository.ProjectMemberRepository;
+import com.project.project_service.repository.ProjectRepository;
+import com.project.project_service.service.ProjectMemberService;
+import com.project.project_service.service.ProjectService;
+import com.taskmanager.shared.test.QueryCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.taskmanager.shared.test.QueryCounter.assertMaxStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Query budgets for the listing paths that batch their lookups. Runs on an in-memory H2 in PostgreSQL mode;
+// the budgets hold whatever the fixture size.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:project_query_count;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "app.tracing.span-file="
+})
+@Import(QueryCounter.class)
+class QueryCountTests {
+    private static final int PROJECTS = 10;
+    private static final int MEMBERS = 25;
+    private static final String AUTH_ID = "auth-0";
+
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private ProjectMemberService projectMemberService;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private ProjectMemberRepository memberRepository;
+
+    @MockitoBean
+    private UserClient userClient;
+
+    private String projectId;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository.deleteAll();
+        projectRepository.deleteAll();
+
+        // AUTH_ID owns every project, each led by someone else; the first one has MEMBERS members in all
+        List<ProjectMember> members = new ArrayList<>();
+        List<UserDetail> users = new ArrayList<>();
+        users.add(user(AUTH_ID));
+        for (int i = 0; i < PROJECTS; i++) {
+            Project project = projectRepository.save(Project.builder()
+                    .orgId("org-0")
+                    .name("project-" + i)
+                    .ownerAuthId(AUTH_ID)
+                    .teamLeadAuthId("lead-" + i)
+                    .build());
+            members.add(member(project.getId(), AUTH_ID, Role.OWNER));
+            users.add(user("lead-" + i));
+            if (i == 0) {
+                projectId = project.getId();
+            }
+        }
+        for (int i = 1; i < MEMBERS; i++) {
+            members.add(member(projectId, "auth-" + i, Role.MEMBER));
+            users.add(user("auth-" + i));
+        }
+        memberRepository.saveAll(members);
+        when(userClient.getUsersByIds(anyList())).thenReturn(users);
+    }
+
+    @Test
+    void listByUserLoadsProjectsInOneQuery() {
+        List<ProjectDetailResponse> projects = new ArrayList<>();
+
+        // memberships + projects
+        assertMaxStatements(2, () -> projects.addAll(projectService.listByUser(AUTH_ID)));
+
+        assertThat(projects).hasSize(PROJECTS).allSatisfy(project -> assertThat(project.getTeamLead()).isNotNull());
+        verify(userClient, times(1)).getUsersByIds(anyList());
+    }
+
+    @Test
+    void listMembersFetchesUsersInOneCall() {
+        List<ProjectMemberResponse> members = new ArrayList<>();
+
+        assertMaxStatements(1, () -> members.addAll(projectMemberService.listMembers(projectId)));
+
+        assertThat(members).hasSize(MEMBERS);
+        verify(userClient, times(1)).getUsersByIds(anyList());
+    }
+
+    private static ProjectMember member(String projectId, String authId, Role role) {
+        return ProjectMember.builder()
+                .projectId(projectId)
+                .authId(authId)
+                .role(role)
+                .build();
+    }
+
+    private static UserDetail user(String authId) {
+        return UserDetail.builder()
+                .authId(authId)
+                .email(authId + "@example.com")
+                .name(authId)
+                .build();
+    }
+}
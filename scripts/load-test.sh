@@ -0,0 +1,43 @@
+#!/usr/bin/env bash
+# Throughput comparison for the virtual-thread mode (spring.threads.virtual.enabled).
+#
+# Run once with the services started normally and once with the virtual-threads profile, using the same
+# URL and a different label; both runs append to the same CSV so they can be compared side by side.
+#
+#   scripts/load-test.sh platform http://localhost:8086/api/<projectId>/tasks
+#   SPRING_PROFILES_ACTIVE=virtual-threads ./mvnw spring-boot:run   # restart the services
+#   scripts/load-test.sh virtual  http://localhost:8086/api/<projectId>/tasks
+#
+# Requires `hey` (https://github.com/rakyll/hey). Env: DURATION (default 30s), CONCURRENCY
+# (default "50 200 800"), OUT (default load-test-results.csv), AUTH (optional Authorization header).
+set -euo pipefail
+
+if [[ $# -lt 2 ]]; then
+  echo "usage: $0 <label> <url>" >&2
+  exit 1
+fi
+command -v hey >/dev/null || { echo "hey is not installed" >&2; exit 1; }
+
+label=$1
+url=$2
+duration=${DURATION:-30s}
+out=${OUT:-load-test-results.csv}
+headers=()
+if [[ -n "${AUTH:-}" ]]; then
+  headers=(-H "Authorization: ${AUTH}")
+fi
+
+[[ -f "$out" ]] || echo "label,concurrency,requests_per_sec,p50_ms,p99_ms,non_2xx" > "$out"
+
+for c in ${CONCURRENCY:-50 200 800}; do
+  # Short warm-up so JIT and connection pools are settled before measuring
+  hey -z 5s -c "$c" "${headers[@]}" "$url" >/dev/null
+  report=$(hey -z "$duration" -c "$c" "${headers[@]}" "$url")
+
+  rps=$(awk '/Requests\/sec:/ {print $2}' <<<"$report")
+  p50=$(awk '/ 50% in / {printf "%.1f", $3 * 1000}' <<<"$report")
+  p99=$(awk '/ 99% in / {printf "%.1f", $3 * 1000}' <<<"$report")
+  non2xx=$(awk '/^\s*\[[0-9]+\]/ { code = substr($1, 2, 3); if (code !~ /^2/) sum += $2 } END {print sum + 0}' <<<"$report")
+
+  echo "$label,$c,$rps,$p50,$p99,$non2xx" | tee -a "$out"
+done
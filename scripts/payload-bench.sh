@@ -0,0 +1,56 @@
+#!/usr/bin/env bash
+# Payload size and end-to-end latency of POST /api/tasks (the project-service -> task-service call) for
+# JSON vs Smile responses, each with and without gzip. Codec CPU cost alone is measured by the JMH
+# benchmark in task-service (mvn -Pbenchmarks ...).
+#
+#   scripts/payload-bench.sh '["<projectId>","<projectId>"]'
+#
+# Requires curl and `hey` (https://github.com/rakyll/hey). Env: URL (default
+# http://localhost:8086/api/tasks), SIZE (page size, default 100), DURATION (default 30s), CONCURRENCY
+# (default 50), OUT (default payload-bench-results.csv), AUTH (optional Authorization header).
+set -euo pipefail
+
+if [[ $# -lt 1 ]]; then
+  echo "usage: $0 <projectIds JSON array>" >&2
+  exit 1
+fi
+command -v hey >/dev/null || { echo "hey is not installed" >&2; exit 1; }
+
+body=$1
+url="${URL:-http://localhost:8086/api/tasks}?size=${SIZE:-100}"
+duration=${DURATION:-30s}
+concurrency=${CONCURRENCY:-50}
+out=${OUT:-payload-bench-results.csv}
+auth=()
+if [[ -n "${AUTH:-}" ]]; then
+  auth=(-H "Authorization: ${AUTH}")
+fi
+
+[[ -f "$out" ]] || echo "format,gzip,page_size,response_bytes,requests_per_sec,p50_ms,p99_ms,non_2xx" > "$out"
+
+for format in json smile; do
+  [[ $format == json ]] && accept=application/json || accept=application/x-jackson-smile
+  for gzip in false true; do
+    # Bytes on the wire: curl does not decompress unless asked, so size_download is the encoded size
+    encoding=()
+    compression=(-disable-compression)
+    if [[ $gzip == true ]]; then
+      encoding=(-H "Accept-Encoding: gzip")
+      compression=()
+    fi
+    bytes=$(curl -s -o /dev/null -w '%{size_download}' -X POST "${auth[@]}" "${encoding[@]}" \
+      -H "Content-Type: application/json" -H "Accept: $accept" -d "$body" "$url")
+
+    hey_args=(-m POST -c "$concurrency" -T application/json -H "Accept: $accept" "${compression[@]}" "${auth[@]}" -d "$body")
+    # Short warm-up so JIT and connection pools are settled before measuring
+    hey -z 5s "${hey_args[@]}" "$url" >/dev/null
+    report=$(hey -z "$duration" "${hey_args[@]}" "$url")
+
+    rps=$(awk '/Requests\/sec:/ {print $2}' <<<"$report")
+    p50=$(awk '/ 50% in / {printf "%.1f", $3 * 1000}' <<<"$report")
+    p99=$(awk '/ 99% in / {printf "%.1f", $3 * 1000}' <<<"$report")
+    non2xx=$(awk '/^\s*\[[0-9]+\]/ { code = substr($1, 2, 3); if (code !~ /^2/) sum += $2 } END {print sum + 0}' <<<"$report")
+
+    echo "$format,$gzip,${SIZE:-100},$bytes,$rps,$p50,$p99,$non2xx" | tee -a "$out"
+  done
+done
@@ -0,0 +1,70 @@
+package com.taskmanager.shared.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Primary from spring.datasource as before, plus optional read replicas from app.datasource.replicas.urls
+// (comma separated, same credentials). Without replicas every connection still comes from the primary.
+@Configuration
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceProperties properties,
+                                                             ObjectProvider<MeterRegistry> meterRegistry,
+                                                             @Value("${app.datasource.replicas.urls:}") String urls,
+                                                             @Value("${app.datasource.replicas.pool-size:20}") int poolSize,
+                                                             @Value("${app.datasource.replicas.max-lag:10s}") Duration maxLag,
+                                                             @Value("${app.datasource.read-your-writes-window:5s}") Duration window) {
+        List<String> replicaUrls = Arrays.stream(urls.split(","))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .toList();
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(replicaUrls.get(i));
+            replica.setUsername(properties.determineUsername());
+            replica.setPassword(properties.determinePassword());
+            replica.setMaximumPoolSize(poolSize);
+            replica.setReadOnly(true);
+            // A dead replica should cost a read at most this long before it fails over to the primary
+            replica.setConnectionTimeout(2000);
+            // Start without connecting so an unreachable replica cannot block startup
+            replica.setInitializationFailTimeout(-1);
+            // Replicas are not beans, so Boot's pool metrics would miss them; tagged pool=replica-N
+            meterRegistry.ifAvailable(registry -> replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.put(replica.getPoolName(), replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, new ReadYourWritesWindow(window), maxLag);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
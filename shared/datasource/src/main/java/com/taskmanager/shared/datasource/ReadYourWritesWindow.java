@@ -0,0 +1,79 @@
+package com.taskmanager.shared.datasource;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+// Read-your-writes for replica routing. Once a request writes, the rest of that request and the same
+// client's requests for the next `window` read from the primary, so nobody is shown a replica that has not
+// caught up with their own change yet. The client carries the deadline in a cookie. Work outside an HTTP
+// request (listeners, schedulers) has no session and is never pinned.
+public class ReadYourWritesWindow {
+    static final String COOKIE = "read_primary_until";
+    private static final String UNTIL = ReadYourWritesWindow.class.getName() + ".until";
+    private static final String COOKIE_SENT = ReadYourWritesWindow.class.getName() + ".cookieSent";
+
+    private final Duration window;
+
+    public ReadYourWritesWindow(Duration window) {
+        this.window = window;
+    }
+
+    boolean pinnedToPrimary() {
+        ServletRequestAttributes attributes = currentRequest();
+        if (attributes == null) {
+            return false;
+        }
+        Long until = (Long) attributes.getAttribute(UNTIL, RequestAttributes.SCOPE_REQUEST);
+        if (until == null) {
+            until = fromCookie(attributes.getRequest());
+            attributes.setAttribute(UNTIL, until, RequestAttributes.SCOPE_REQUEST);
+        }
+        return until > System.currentTimeMillis();
+    }
+
+    void recordWrite() {
+        ServletRequestAttributes attributes = currentRequest();
+        if (attributes == null) {
+            return;
+        }
+        long until = System.currentTimeMillis() + window.toMillis();
+        attributes.setAttribute(UNTIL, until, RequestAttributes.SCOPE_REQUEST);
+        HttpServletResponse response = attributes.getResponse();
+        // Writes happen in the service layer, before the body is rendered, so the response is still open
+        if (response != null && !response.isCommitted()
+                && attributes.getAttribute(COOKIE_SENT, RequestAttributes.SCOPE_REQUEST) == null) {
+            Cookie cookie = new Cookie(COOKIE, Long.toString(until));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+            response.addCookie(cookie);
+            attributes.setAttribute(COOKIE_SENT, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private static long fromCookie(HttpServletRequest request) {
+        if (request.getCookies() == null) {
+            return 0L;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0L;
+                }
+            }
+        }
+        return 0L;
+    }
+
+    private static ServletRequestAttributes currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes ? attributes : null;
+    }
+}
@@ -0,0 +1,150 @@
+package com.taskmanager.shared.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Sends read-only transactions to a healthy replica (round robin) and everything else to the primary.
+// Used behind a LazyConnectionDataSourceProxy so the decision is made at the first statement, after the
+// transaction manager has flagged the transaction read-only. Replicas are probed every check interval and
+// dropped while unreachable or lagging more than max-lag; with none left, reads simply go to the primary.
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+    static final String PRIMARY = "primary";
+
+    // Whether a WAL receiver is running (pg_stat_wal_receiver has its row, pid visible to any role, only then)
+    // and the replay lag in seconds. The lag is 0 once the replica has replayed everything it received, so an
+    // idle primary does not make a caught-up replica look stale; a stopped receiver receives nothing and would
+    // report 0 forever, which is why it counts as down by itself.
+    private static final String LAG_QUERY = "SELECT EXISTS (SELECT 1 FROM pg_stat_wal_receiver) AS receiving," +
+            " CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0" +
+            " ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END AS lag";
+
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final Map<String, HikariDataSource> replicas;
+    private final ReadYourWritesWindow readYourWrites;
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+    // Until the first probe succeeds nothing is routed to a replica
+    private volatile List<String> healthy = List.of();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, HikariDataSource> replicas,
+                                    ReadYourWritesWindow readYourWrites, Duration maxLag) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.readYourWrites = readYourWrites;
+        this.maxLag = maxLag;
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    // Runs work on the primary even inside read-only transactions, e.g. checks on another thread that
+    // validate rows the calling write transaction depends on
+    public static <T> T onPrimary(Supplier<T> work) {
+        Boolean previous = PRIMARY_ONLY.get();
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            PRIMARY_ONLY.set(previous);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                readYourWrites.recordWrite();
+            }
+            return PRIMARY;
+        }
+        List<String> candidates = healthy;
+        if (candidates.isEmpty() || Boolean.TRUE.equals(PRIMARY_ONLY.get()) || readYourWrites.pinnedToPrimary()) {
+            return PRIMARY;
+        }
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary.getConnection();
+        }
+        try {
+            return replicas.get(key).getConnection();
+        } catch (SQLException e) {
+            // Fail over right away instead of waiting for the next probe
+            markDown((String) key, e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.check-interval-ms:5000}")
+    public void checkReplicas() {
+        if (replicas.isEmpty()) {
+            return;
+        }
+        List<String> up = new ArrayList<>();
+        replicas.forEach((name, replica) -> {
+            if (isHealthy(name, replica)) {
+                up.add(name);
+            }
+        });
+        if (!up.equals(healthy)) {
+            log.info("Routing read-only transactions to replicas: {}", up);
+        }
+        healthy = List.copyOf(up);
+    }
+
+    @Override
+    public void destroy() {
+        replicas.values().forEach(HikariDataSource::close);
+    }
+
+    private boolean isHealthy(String name, DataSource replica) {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+            rs.next();
+            if (!rs.getBoolean("receiving")) {
+                log.warn("Replica {} is not receiving WAL from the primary, reading from the primary instead", name);
+                return false;
+            }
+            double lagSeconds = rs.getDouble("lag");
+            if (lagSeconds * 1000 > maxLag.toMillis()) {
+                log.warn("Replica {} is {}s behind, reading from the primary instead", name, lagSeconds);
+                return false;
+            }
+            return true;
+        } catch (SQLException e) {
+            log.warn("Replica {} is unreachable: {}", name, e.getMessage());
+            return false;
+        }
+    }
+
+    private synchronized void markDown(String name, String reason) {
+        List<String> remaining = new ArrayList<>(healthy);
+        if (remaining.remove(name)) {
+            log.warn("Replica {} failed, reading from the primary until it recovers: {}", name, reason);
+            healthy = List.copyOf(remaining);
+        }
+    }
+}
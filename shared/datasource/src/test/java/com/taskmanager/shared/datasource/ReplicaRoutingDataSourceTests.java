@@ -0,0 +1,109 @@
+package com.taskmanager.shared.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Routing as wired in DataSourceRoutingConfig (LazyConnectionDataSourceProxy over the routing data source),
+// driven by a real transaction manager against mocked pools.
+class ReplicaRoutingDataSourceTests {
+    private final HikariDataSource primary = mock(HikariDataSource.class);
+    private final HikariDataSource replica = mock(HikariDataSource.class);
+    private final ResultSet health = mock(ResultSet.class);
+
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        Connection primaryConnection = connection();
+        Connection replicaConnection = connection();
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(replicaConnection.createStatement().executeQuery(anyString())).thenReturn(health);
+        when(health.next()).thenReturn(true);
+        when(health.getBoolean("receiving")).thenReturn(true);
+        when(health.getDouble("lag")).thenReturn(0.0);
+
+        routing = new ReplicaRoutingDataSource(primary, Map.of("replica-0", replica),
+                new ReadYourWritesWindow(Duration.ofSeconds(5)), Duration.ofSeconds(10));
+        routing.afterPropertiesSet();
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        // Otherwise the proxy borrows one extra connection up front to read these defaults
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @Test
+    void writeTransactionsGoToThePrimaryEvenWhenTheyReadFirst() throws SQLException {
+        markReplicaChecked();
+
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.execute("SELECT 1");
+            jdbcTemplate.execute("UPDATE items SET name = 'x'");
+        });
+
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToAHealthyReplica() throws SQLException {
+        markReplicaChecked();
+
+        readOnly.executeWithoutResult(status -> jdbcTemplate.execute("SELECT 1"));
+
+        verify(replica).getConnection();
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void replicaWithAStoppedWalReceiverIsNotUsed() throws SQLException {
+        // Nothing received, nothing left to replay: the lag alone would look perfect
+        when(health.getBoolean("receiving")).thenReturn(false);
+        markReplicaChecked();
+
+        readOnly.executeWithoutResult(status -> jdbcTemplate.execute("SELECT 1"));
+
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    private void markReplicaChecked() {
+        routing.checkReplicas();
+        clearInvocations(primary, replica);
+    }
+
+    private static Connection connection() throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.getAutoCommit()).thenReturn(true);
+        return connection;
+    }
+}
@@ -0,0 +1,80 @@
+package com.taskmanager.shared.feign;
+
+import feign.Client;
+import feign.Response;
+import feign.micrometer.DefaultFeignObservationConvention;
+import feign.micrometer.FeignContext;
+import feign.micrometer.FeignObservationDocumentation;
+import feign.micrometer.MicrometerObservationCapability;
+import io.micrometer.common.KeyValues;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+// Every Feign call is timed as feign.client.requests; on top of Feign's default tags (client, method, uri,
+// status) each one carries downstream (the @FeignClient name) and outcome, so one query splits a slow
+// endpoint into its downstream hops. Replaces the capability Spring Cloud would register by default.
+@Configuration
+public class FeignObservationConfig {
+
+    @Bean
+    public MicrometerObservationCapability micrometerObservationCapability(ObservationRegistry observationRegistry) {
+        return new DownstreamObservationCapability(observationRegistry);
+    }
+
+    // Feign's own capability only stops the observation on FeignException; a refused or timed-out connection
+    // (IOException from the HTTP client) would leave it running forever, with no timer sample and no span
+    public static class DownstreamObservationCapability extends MicrometerObservationCapability {
+        private static final DownstreamObservationConvention CONVENTION = new DownstreamObservationConvention();
+
+        private final ObservationRegistry observationRegistry;
+
+        public DownstreamObservationCapability(ObservationRegistry observationRegistry) {
+            super(observationRegistry, CONVENTION);
+            this.observationRegistry = observationRegistry;
+        }
+
+        @Override
+        public Client enrich(Client client) {
+            return (request, options) -> {
+                FeignContext context = new FeignContext(request);
+                Observation observation = FeignObservationDocumentation.DEFAULT
+                        .observation(CONVENTION, DefaultFeignObservationConvention.INSTANCE, () -> context, observationRegistry)
+                        .start();
+                try {
+                    Response response = client.execute(request, options);
+                    context.setResponse(response);
+                    return response;
+                } catch (IOException | RuntimeException e) {
+                    observation.error(e);
+                    throw e;
+                } finally {
+                    observation.stop();
+                }
+            };
+        }
+    }
+
+    public static class DownstreamObservationConvention extends DefaultFeignObservationConvention {
+        // Not Feign's http.client.requests: Spring's HTTP clients publish that name with other tag keys, and
+        // Prometheus drops whichever of the two registers second
+        @Override
+        public String getName() {
+            return "feign.client.requests";
+        }
+
+        @Override
+        public KeyValues getLowCardinalityKeyValues(FeignContext context) {
+            Response response = context.getResponse();
+            // No response means the call failed before one arrived; the error tag says why
+            String outcome = response == null ? Outcome.UNKNOWN.name() : Outcome.forStatus(response.status()).name();
+            return super.getLowCardinalityKeyValues(context).and(
+                    "downstream", context.getCarrier().requestTemplate().feignTarget().name(),
+                    "outcome", outcome);
+        }
+    }
+}
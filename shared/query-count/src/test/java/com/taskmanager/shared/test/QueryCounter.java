@@ -0,0 +1,107 @@
+package com.taskmanager.shared.test;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Counts the SQL statements a call sends, so a test can pin how many queries a service method costs and a
+// query-per-row regression (N+1) fails the build. @Import it into a @SpringBootTest: the application's
+// DataSource is wrapped in a datasource-proxy whose listener tallies statements from every thread, so queries
+// a service runs on worker threads count too. Anything else running queries meanwhile (schedulers, listeners)
+// counts as well; tests keep it quiet.
+// Shared by the services through build-helper-maven-plugin (shared/query-count).
+@TestConfiguration(proxyBeanMethods = false)
+public class QueryCounter {
+    private static final GlobalCount COUNT = new GlobalCount();
+
+    @Bean
+    static BeanPostProcessor queryCountingDataSource() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+                    return ProxyDataSourceBuilder.create(dataSource).name(beanName).listener(COUNT).build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    // Statements sent while the call ran, on any thread
+    public static QueryCount count(Runnable call) {
+        synchronized (COUNT) {
+            COUNT.reset();
+            try {
+                call.run();
+                return COUNT.snapshot();
+            } finally {
+                COUNT.reset();
+            }
+        }
+    }
+
+    public static void assertMaxStatements(int max, Runnable call) {
+        QueryCount count = count(call);
+        assertThat(count.getTotal())
+                .as("statements sent (select %d, insert %d, update %d, delete %d, other %d)",
+                        count.getSelect(), count.getInsert(), count.getUpdate(), count.getDelete(), count.getOther())
+                .isLessThanOrEqualTo(max);
+    }
+
+    // One JDBC execution is one statement, however many parameter sets a batch carries
+    private static final class GlobalCount implements QueryExecutionListener {
+        private final AtomicInteger select = new AtomicInteger();
+        private final AtomicInteger insert = new AtomicInteger();
+        private final AtomicInteger update = new AtomicInteger();
+        private final AtomicInteger delete = new AtomicInteger();
+        private final AtomicInteger other = new AtomicInteger();
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            for (QueryInfo queryInfo : queryInfoList) {
+                switch (QueryUtils.getQueryType(queryInfo.getQuery())) {
+                    case SELECT -> select.incrementAndGet();
+                    case INSERT -> insert.incrementAndGet();
+                    case UPDATE -> update.incrementAndGet();
+                    case DELETE -> delete.incrementAndGet();
+                    default -> other.incrementAndGet();
+                }
+            }
+        }
+
+        void reset() {
+            select.set(0);
+            insert.set(0);
+            update.set(0);
+            delete.set(0);
+            other.set(0);
+        }
+
+        QueryCount snapshot() {
+            QueryCount count = new QueryCount();
+            count.setSelect(select.get());
+            count.setInsert(insert.get());
+            count.setUpdate(update.get());
+            count.setDelete(delete.get());
+            count.setOther(other.get());
+            count.setTotal(select.get() + insert.get() + update.get() + delete.get() + other.get());
+            return count;
+        }
+    }
+}
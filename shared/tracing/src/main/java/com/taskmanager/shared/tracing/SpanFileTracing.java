@@ -0,0 +1,74 @@
+package com.taskmanager.shared.tracing;
+
+import io.opentelemetry.exporter.logging.otlp.OtlpJsonLoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.FileHandler;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+// Span file shared by the Spring services (each TracingConfig imports it). Off unless app.tracing.span-file is set:
+// finished spans then go there as OTLP JSON, one export batch per line, so traces can be read without any backend and
+// later loaded into one (e.g. a collector's otlpjsonfile receiver). The file rotates at span-file-max-size and keeps
+// span-file-count generations, numbered before the extension: spans.0.jsonl is the current one.
+@Configuration
+public class SpanFileTracing {
+    // The exporter writes through this JUL logger, which is global: every application context in the JVM shares it
+    private static final Logger EXPORTER_LOGGER = Logger.getLogger(OtlpJsonLoggingSpanExporter.class.getName());
+
+    private static String installedPattern;
+
+    @Bean
+    @ConditionalOnExpression("!'${app.tracing.span-file:}'.isEmpty()")
+    public SpanExporter spanFileExporter(@Value("${app.tracing.span-file}") String spanFile,
+                                         @Value("${app.tracing.span-file-max-size:50MB}") DataSize maxSize,
+                                         @Value("${app.tracing.span-file-count:5}") int count) throws IOException {
+        installHandler(Path.of(spanFile).toAbsolutePath(), maxSize.toBytes(), count);
+        return OtlpJsonLoggingSpanExporter.create();
+    }
+
+    // Once per file: contexts created later (tests, refreshes) reuse the handler instead of stacking another one
+    // that would write every span again. A different file replaces it.
+    private static synchronized void installHandler(Path path, long maxBytes, int count) throws IOException {
+        String pattern = generationPattern(path);
+        if (pattern.equals(installedPattern)) {
+            return;
+        }
+        Files.createDirectories(path.getParent());
+        FileHandler handler = new FileHandler(pattern, maxBytes, Math.max(count, 1), true);
+        handler.setFormatter(new Formatter() {
+            @Override
+            public String format(LogRecord record) {
+                return record.getMessage() + System.lineSeparator();
+            }
+        });
+        for (Handler previous : EXPORTER_LOGGER.getHandlers()) {
+            EXPORTER_LOGGER.removeHandler(previous);
+            previous.close();
+        }
+        // Keep the exporter's lines out of the application log
+        EXPORTER_LOGGER.setUseParentHandlers(false);
+        EXPORTER_LOGGER.addHandler(handler);
+        installedPattern = pattern;
+    }
+
+    // logs/task-service-spans.jsonl -> logs/task-service-spans.%g.jsonl; '%' in the path itself is escaped
+    private static String generationPattern(Path path) {
+        String directory = path.getParent().toString().replace("%", "%%");
+        String file = path.getFileName().toString().replace("%", "%%");
+        int dot = file.lastIndexOf('.');
+        String name = dot > 0 ? file.substring(0, dot) + ".%g" + file.substring(dot) : file + ".%g";
+        return directory + File.separator + name;
+    }
+}
@@ -0,0 +1,107 @@
+package com.task.task_service.benchmark;
+
+import com.task.task_service.model.Priority;
+import com.task.task_service.model.Status;
+import com.task.task_service.model.Task;
+import com.task.task_service.repository.projection.TaskRow;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Synthetic tasks shaped like production rows: a handful of projects and users, tags on every task and an
+// attributes map of the requested size. Deterministic, so runs are comparable.
+final class TaskFixtures {
+    private static final OffsetDateTime NOW = OffsetDateTime.parse("2025-06-01T09:30:00Z");
+    private static final Status[] STATUSES = Status.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private TaskFixtures() {
+    }
+
+    static Task task(int i, int attributeCount) {
+        return Task.builder()
+                .id(id(i))
+                .projectId("0d5e8f7a-3b2c-4f61-8e9d-00000000000" + (i % 5))
+                .title("Task " + i + ": update the onboarding checklist")
+                .description(i % 3 == 0 ? null : "Follow up with the design team and attach the revised mockups.")
+                .status(STATUSES[i % STATUSES.length])
+                .priority(PRIORITIES[i % PRIORITIES.length])
+                .dueDate(NOW.plusDays(i % 30))
+                .createdByAuthId("auth0|user-" + (i % 7))
+                .assignedToAuthId("auth0|user-" + (i % 11))
+                .tags(new ArrayList<>(List.of("frontend", "q3", "team-" + (i % 4))))
+                .attributes(attributes(i, attributeCount))
+                .subTasks(new ArrayList<>())
+                .createdAt(NOW.minusDays(10))
+                .updatedAt(NOW.minusHours(i))
+                .build();
+    }
+
+    static List<Task> tasks(int count, int attributeCount) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(task(i, attributeCount));
+        }
+        return tasks;
+    }
+
+    static List<TaskRow> rows(int count, int attributeCount) {
+        List<TaskRow> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(row(task(i, attributeCount)));
+        }
+        return rows;
+    }
+
+    // Complete tree: every task down to depth has fanOut subtasks; (fanOut^(depth+1) - 1) / (fanOut - 1) tasks.
+    // Flat and parents-first, in the order the subtree queries return rows, with parentId set as loaded rows have it.
+    static List<Task> subtree(int fanOut, int depth, int attributeCount) {
+        List<Task> tasks = new ArrayList<>();
+        List<Task> level = List.of(treeTask(null, 0, attributeCount));
+        tasks.addAll(level);
+        for (int d = 0; d < depth; d++) {
+            List<Task> next = new ArrayList<>(level.size() * fanOut);
+            for (Task parent : level) {
+                for (int i = 0; i < fanOut; i++) {
+                    next.add(treeTask(parent, tasks.size() + next.size(), attributeCount));
+                }
+            }
+            tasks.addAll(next);
+            level = next;
+        }
+        return tasks;
+    }
+
+    static TaskRow row(Task task) {
+        return new TaskRow(task.getId(), task.getProjectId(), task.getTitle(), task.getStatus(), task.getPriority(),
+                task.getDueDate(), task.getCreatedByAuthId(), task.getAssignedToAuthId(), task.getParentId(),
+                task.getCreatedAt(), task.getUpdatedAt(), task.getDescription(), task.getTags(), task.getAttributes());
+    }
+
+    private static Task treeTask(Task parent, int i, int attributeCount) {
+        Task task = task(i, attributeCount);
+        task.placeUnder(parent);
+        task.setParentId(parent == null ? null : parent.getId());
+        task.setCreatedAt(NOW.minusDays(10).plusSeconds(i));
+        return task;
+    }
+
+    private static Map<String, Object> attributes(int i, int count) {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        for (int a = 0; a < count; a++) {
+            switch (a % 3) {
+                case 0 -> attributes.put("field_" + a, "value-" + (i + a) % 17);
+                case 1 -> attributes.put("field_" + a, (i * 31 + a) % 1000);
+                default -> attributes.put("field_" + a, (i + a) % 2 == 0);
+            }
+        }
+        return attributes;
+    }
+
+    private static String id(int i) {
+        return "6f1c2a4e-0b7d-4c3e-9a51-%012d".formatted(i);
+    }
+}
@@ -0,0 +1,114 @@
+package com.task.task_service.benchmark;
+
+import com.task.task_service.dto.TaskResponse;
+import com.task.task_service.mapper.Mapper;
+import com.task.task_service.model.Task;
+import com.task.task_service.repository.TaskRepository;
+import com.task.task_service.repository.projection.TaskPathView;
+import com.task.task_service.repository.projection.TaskRow;
+import com.task.task_service.service.impl.TaskHierarchyLoader;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// Entity/row -> DTO mapping behind the list, detail and update endpoints: a page of entities, a page of
+// JDBC rows, and TaskHierarchyLoader mapping and assembling the flat subtree rows of complete trees. The profile runs with -prof gc, so each
+// result comes with its allocation rate and bytes per operation.
+//
+//   mvn -Pbenchmarks -DskipTests test-compile exec:exec -Djmh.args="-f 1 -prof gc TaskMappingBenchmark"
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TaskMappingBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class PageState {
+        @Param({"100"})
+        public int pageSize;
+
+        @Param({"5", "50"})
+        public int attributeCount;
+
+        List<Task> tasks;
+        List<TaskRow> rows;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            tasks = TaskFixtures.tasks(pageSize, attributeCount);
+            rows = TaskFixtures.rows(pageSize, attributeCount);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class TreeState {
+        // 4 x 3 levels is 85 tasks, 8 x 3 levels is 585
+        @Param({"4", "8"})
+        public int fanOut;
+
+        @Param({"3"})
+        public int depth;
+
+        // Deepest level served from tasks_archive, which adds the merge and re-sort of hot and archived rows
+        @Param({"false", "true"})
+        public boolean archivedLeaves;
+
+        TaskHierarchyLoader loader;
+        String rootId;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            List<Task> hot = TaskFixtures.subtree(fanOut, depth, 5);
+            List<TaskRow> archived = List.of();
+            if (archivedLeaves) {
+                archived = hot.stream().filter(task -> task.getDepth() == depth).map(TaskFixtures::row).toList();
+                hot = hot.stream().filter(task -> task.getDepth() < depth).toList();
+            }
+            Task root = hot.get(0);
+            rootId = root.getId();
+            loader = new TaskHierarchyLoader(repository(
+                    new TaskPathView(root.getId(), root.getProjectId(), root.getPath(), root.getDepth()), hot, archived));
+        }
+
+        // Serves the loader's three reads from memory. The loader maps rows into new responses without touching them.
+        private static TaskRepository repository(TaskPathView root, List<Task> hot, List<TaskRow> archived) {
+            return (TaskRepository) Proxy.newProxyInstance(TaskRepository.class.getClassLoader(),
+                    new Class<?>[]{TaskRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                        case "findPathById" -> Optional.of(root);
+                        case "findSubtree" -> hot;
+                        case "findArchivedSubtree" -> archived;
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+    }
+
+    @Benchmark
+    public void toTaskresponse(PageState page, Blackhole blackhole) {
+        for (Task task : page.tasks) {
+            blackhole.consume(Mapper.toTaskresponse(task));
+        }
+    }
+
+    @Benchmark
+    public void toTaskListResponseFromEntity(PageState page, Blackhole blackhole) {
+        for (Task task : page.tasks) {
+            blackhole.consume(Mapper.toTaskListResponse(task));
+        }
+    }
+
+    @Benchmark
+    public void toTaskListResponseFromRow(PageState page, Blackhole blackhole) {
+        for (TaskRow row : page.rows) {
+            blackhole.consume(Mapper.toTaskListResponse(row));
+        }
+    }
+
+    @Benchmark
+    public TaskResponse loadTree(TreeState tree) {
+        return tree.loader.loadTree(tree.rootId, null);
+    }
+}
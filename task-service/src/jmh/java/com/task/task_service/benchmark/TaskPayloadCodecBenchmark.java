@@ -0,0 +1,113 @@
+package com.task.task_service.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.task.task_service.dto.TaskResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cloud.openfeign.support.PageJacksonModule;
+import org.springframework.cloud.openfeign.support.SortJacksonModule;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// Cost of one POST /api/tasks page as seen by project-service: encode on task-service, decode (with the Feign
+// page modules) on the caller, for JSON and Smile, with and without gzip. Payload sizes are printed once per
+// trial, since JMH only reports time.
+//
+//   mvn -Pbenchmarks -DskipTests test-compile exec:exec -Djmh.args="-f 1 -prof gc TaskPayloadCodecBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TaskPayloadCodecBenchmark {
+    private static final TypeReference<Page<TaskResponse>> PAGE_TYPE = new TypeReference<>() {
+    };
+
+    @Param({"JSON", "SMILE"})
+    public String format;
+
+    @Param({"false", "true"})
+    public boolean gzip;
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ObjectMapper mapper;
+    private Page<TaskResponse> page;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if ("SMILE".equals(format)) {
+            builder.factory(SmileFactory.builder()
+                    .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                    .build());
+        }
+        mapper = builder.build().registerModules(new PageJacksonModule(), new SortJacksonModule());
+        page = samplePage(pageSize);
+        encoded = encode();
+        System.out.printf("%n%s gzip=%s pageSize=%d: %d bytes%n", format, gzip, pageSize, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(8192);
+        if (gzip) {
+            try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+                mapper.writeValue(out, page);
+            }
+        } else {
+            mapper.writeValue(bytes, page);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public Page<TaskResponse> decode() throws IOException {
+        InputStream raw = new ByteArrayInputStream(encoded);
+        try (InputStream in = gzip ? new GZIPInputStream(raw) : raw) {
+            return mapper.readValue(in, PAGE_TYPE);
+        }
+    }
+
+    // Rows shaped like real ones: a handful of projects/users, tags and attributes on most tasks
+    private static Page<TaskResponse> samplePage(int size) {
+        OffsetDateTime now = OffsetDateTime.parse("2025-06-01T09:30:00Z");
+        List<TaskResponse> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(TaskResponse.builder()
+                    .id("6f1c2a4e-0b7d-4c3e-9a51-%012d".formatted(i))
+                    .projectId("0d5e8f7a-3b2c-4f61-8e9d-00000000000" + (i % 5))
+                    .title("Task " + i + ": update the onboarding checklist")
+                    .description(i % 3 == 0 ? null : "Follow up with the design team and attach the revised mockups.")
+                    .status(i % 4 == 0 ? "DONE" : "IN_PROGRESS")
+                    .priority(i % 2 == 0 ? "HIGH" : "MEDIUM")
+                    .dueDate(now.plusDays(i % 30))
+                    .createdByAuthId("auth0|user-" + (i % 7))
+                    .assignedToAuthId("auth0|user-" + (i % 11))
+                    .tags(List.of("frontend", "q3"))
+                    .attributes(Map.of("estimate", i % 8, "sprint", "S-" + (i % 3)))
+                    .createdAt(now.minusDays(10))
+                    .updatedAt(now.minusHours(i))
+                    .build());
+        }
+        return new PageImpl<>(tasks, PageRequest.of(0, size), 10_000);
+    }
+}
@@ -0,0 +1,69 @@
+package com.task.task_service.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task.task_service.dto.TaskResponse;
+import com.task.task_service.mapper.Mapper;
+import com.task.task_service.model.Task;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Jackson serialisation of the Page<TaskResponse> the list endpoints return, with attributes maps from
+// small to large, through the same ObjectMapper setup Spring Boot uses. Writes to a discarding stream,
+// so the numbers are Jackson's alone, not a growing byte array's.
+//
+//   mvn -Pbenchmarks -DskipTests test-compile exec:exec -Djmh.args="-f 1 -prof gc TaskSerializationBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TaskSerializationBenchmark {
+    @Param({"20", "100"})
+    public int pageSize;
+
+    @Param({"0", "20", "200"})
+    public int attributeCount;
+
+    private ObjectMapper objectMapper;
+    private Page<TaskResponse> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<TaskResponse> content = TaskFixtures.tasks(pageSize, attributeCount).stream()
+                .map(Mapper::toTaskresponse)
+                .toList();
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000);
+    }
+
+    @Benchmark
+    public void serializePage() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), page);
+    }
+
+    // Mapping and serialisation together, as a list request pays for them
+    @Benchmark
+    public void mapAndSerializePage(PageOfEntities entities) throws IOException {
+        Page<TaskResponse> mapped = entities.page.map(Mapper::toTaskresponse);
+        objectMapper.writeValue(OutputStream.nullOutputStream(), mapped);
+    }
+
+    @State(Scope.Benchmark)
+    public static class PageOfEntities {
+        Page<Task> page;
+
+        @Setup(Level.Trial)
+        public void setUp(TaskSerializationBenchmark benchmark) {
+            page = new PageImpl<>(TaskFixtures.tasks(benchmark.pageSize, benchmark.attributeCount),
+                    PageRequest.of(0, benchmark.pageSize), 10_000);
+        }
+    }
+}
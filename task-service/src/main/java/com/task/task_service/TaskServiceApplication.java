@@ -1,11 +1,19 @@
 package com.task.task_service;
 
+import com.taskmanager.shared.datasource.DataSourceRoutingConfig;
+import com.taskmanager.shared.feign.FeignObservationConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableFeignClients
+@EnableScheduling
+@Import({DataSourceRoutingConfig.class, FeignObservationConfig.class})
+@EnableAsync
 public class TaskServiceApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,100 @@
+package com.task.task_service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.task.task_service.feign.ProjectClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+// In-process cache in front of ProjectClient.getProjectById. Hits and misses live in separate caches so a
+// burst of lookups for unknown ids cannot evict the projects that are actually in use, and so "not found"
+// can expire much sooner than "exists". ProjectLifecycleListener invalidates entries on create/delete.
+@Component
+@Slf4j
+public class ProjectExistenceCache {
+    private final ProjectClient projectClient;
+    private final Cache<String, Boolean> existing;
+    private final Cache<String, Boolean> missing;
+    // Bumped by every lifecycle event. A lookup only caches its answer if no event arrived while it was in
+    // flight, otherwise a delete could be overwritten by the "exists" it raced with. The lock makes the
+    // check-and-put atomic with respect to the events; it is never held across the remote call.
+    private final ReentrantLock lock = new ReentrantLock();
+    private long generation;
+
+    public ProjectExistenceCache(ProjectClient projectClient,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.cache.project-existence.max-size:10000}") long maxSize,
+                                 @Value("${app.cache.project-existence.positive-ttl:10m}") Duration positiveTtl,
+                                 @Value("${app.cache.project-existence.negative-ttl:30s}") Duration negativeTtl) {
+        this.projectClient = projectClient;
+        this.existing = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(positiveTtl)
+                .recordStats()
+                .build();
+        this.missing = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(negativeTtl)
+                .recordStats()
+                .build();
+        // Exposed as cache.gets{cache=...,result=hit|miss}, cache.size, cache.evictions
+        CaffeineCacheMetrics.monitor(meterRegistry, existing, "project-existence-positive");
+        CaffeineCacheMetrics.monitor(meterRegistry, missing, "project-existence-negative");
+    }
+
+    public boolean exists(String projectId) {
+        if (existing.getIfPresent(projectId) != null) {
+            return true;
+        }
+        if (missing.getIfPresent(projectId) != null) {
+            return false;
+        }
+        long startedAt = currentGeneration();
+        boolean exists = Boolean.TRUE.equals(projectClient.getProjectById(projectId));
+        lock.lock();
+        try {
+            if (generation == startedAt) {
+                (exists ? existing : missing).put(projectId, Boolean.TRUE);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return exists;
+    }
+
+    public void onProjectCreated(String projectId) {
+        lock.lock();
+        try {
+            generation++;
+            missing.invalidate(projectId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onProjectDeleted(String projectId) {
+        lock.lock();
+        try {
+            generation++;
+            existing.invalidate(projectId);
+            missing.put(projectId, Boolean.TRUE);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long currentGeneration() {
+        lock.lock();
+        try {
+            return generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.task.task_service.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.zip.GZIPInputStream;
+
+// Inflates request bodies sent with Content-Encoding: gzip (project-service compresses large task queries,
+// see its TaskClientConfig). server.compression only covers responses; the converters behind this filter see
+// the plain body, without the Content-Encoding and the compressed Content-Length.
+@Component
+public class GzipRequestFilter extends OncePerRequestFilter {
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"gzip".equalsIgnoreCase(request.getHeader(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        chain.doFilter(new InflatedRequest(request), response);
+    }
+
+    private static class InflatedRequest extends HttpServletRequestWrapper {
+        private ServletInputStream body;
+
+        InflatedRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (body == null) {
+                // A body that is not valid gzip fails here, and the converter answers 400
+                body = new InflatingInputStream(new GZIPInputStream(super.getInputStream()));
+            }
+            return body;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            Charset charset = getCharacterEncoding() != null ? Charset.forName(getCharacterEncoding()) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return -1;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return -1;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return isHidden(name) ? null : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return isHidden(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            return Collections.enumeration(Collections.list(super.getHeaderNames()).stream()
+                    .filter(name -> !isHidden(name))
+                    .toList());
+        }
+
+        private static boolean isHidden(String name) {
+            return HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name) || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name);
+        }
+    }
+
+    private static class InflatingInputStream extends ServletInputStream {
+        private final InputStream inflater;
+        private boolean finished;
+
+        InflatingInputStream(InputStream inflater) {
+            this.inflater = inflater;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int next = inflater.read();
+            finished = next == -1;
+            return next;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = inflater.read(buffer, offset, length);
+            finished = read == -1;
+            return read;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        // Only read by the blocking message converters
+        @Override
+        public void setReadListener(ReadListener listener) {
+            throw new UnsupportedOperationException("Async reads of gzip request bodies are not supported");
+        }
+
+        @Override
+        public void close() throws IOException {
+            inflater.close();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.task.task_service.config;
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+// Smile (Jackson's binary JSON) for internal callers that ask for it with Accept / Content-Type
+// application/x-jackson-smile. Same DTOs and Jackson settings as JSON. The converter goes last, so a browser
+// sending Accept: */* keeps getting JSON.
+@Configuration
+public class SmileWebConfig implements WebMvcConfigurer {
+    private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    public SmileWebConfig(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        this.objectMapperBuilder = objectMapperBuilder;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Status, priority and project ids repeat on every row of a page; back-references write each once
+        SmileFactory factory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        converters.add(new MappingJackson2SmileHttpMessageConverter(objectMapperBuilder.factory(factory).build()));
+    }
+}
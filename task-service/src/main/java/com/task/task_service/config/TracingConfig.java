@@ -0,0 +1,28 @@
+package com.task.task_service.config;
+
+import com.taskmanager.shared.tracing.SpanFileTracing;
+import io.micrometer.tracing.exporter.SpanExportingPredicate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.util.Set;
+
+// Span file export (off unless app.tracing.span-file is set) comes from the shared SpanFileTracing in shared/.
+// Setting MANAGEMENT_OTLP_TRACING_ENDPOINT additionally ships spans over OTLP/HTTP.
+@Configuration
+@Import(SpanFileTracing.class)
+public class TracingConfig {
+    // Pollers running every few hundred milliseconds to seconds: each run is a root span, mostly idle, that would bury
+    // request traces in the span file. Their timers stay; relayed events get their own span in the request's trace.
+    private static final Set<String> POLLER_SPANS = Set.of(
+            "task outbox-relay.relay",
+            "task task-activity-writer.flush",
+            "task board-rank-rebalancer.rebalance-pending",
+            "task replica-routing-data-source.check-replicas");
+
+    @Bean
+    public SpanExportingPredicate skipPollerSpans() {
+        return span -> !POLLER_SPANS.contains(span.getName());
+    }
+}
@@ -7,6 +7,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
 @CrossOrigin(origins = "http://localhost:5173",
         allowCredentials = "true")
 @RestController
@@ -22,33 +25,111 @@ public class TaskController {
     public ResponseEntity<TaskResponse> createTask(@PathVariable String projectId, @PathVariable String authId,@Valid @RequestBody CreateTaskRequest task) {
         return new ResponseEntity<>(taskService.createTask(task, projectId,authId), HttpStatus.CREATED);
     }
+    @PostMapping("/{authId}/bulk")
+    public ResponseEntity<BulkCreateTaskResponse> bulkCreateTasks(@PathVariable String projectId, @PathVariable String authId, @Valid @RequestBody BulkCreateTaskRequest request) {
+        return new ResponseEntity<>(taskService.bulkCreateTasks(request, projectId, authId), HttpStatus.CREATED);
+    }
     @PutMapping("/{taskId}")
     public ResponseEntity<TaskResponse> updateTask(@PathVariable String taskId, @RequestBody UpdateTaskRequest request){
         return new ResponseEntity<>(taskService.updateTask(taskId,request), HttpStatus.OK);
     }
     @GetMapping("/{taskId}")
-    public ResponseEntity<TaskResponse> getTask(@PathVariable String taskId){
-        return new ResponseEntity<>(taskService.getTaskById(taskId),HttpStatus.OK);
+    public ResponseEntity<TaskResponse> getTask(@PathVariable String taskId,
+                                                @RequestParam(required = false) Integer depth){
+        return new ResponseEntity<>(taskService.getTaskById(taskId, depth),HttpStatus.OK);
+    }
+
+    @GetMapping("/{taskId}/ancestors")
+    public ResponseEntity<List<TaskBreadcrumbItem>> getAncestors(@PathVariable String taskId){
+        return new ResponseEntity<>(taskService.getAncestors(taskId), HttpStatus.OK);
+    }
+    @GetMapping("/{taskId}/summary")
+    public ResponseEntity<TaskSubtreeSummary> getSubtreeSummary(@PathVariable String taskId){
+        return new ResponseEntity<>(taskService.getSubtreeSummary(taskId), HttpStatus.OK);
+    }
+    @PutMapping("/{taskId}/move")
+    public ResponseEntity<TaskResponse> moveTask(@PathVariable String projectId, @PathVariable String taskId, @RequestBody MoveTaskRequest request){
+        return new ResponseEntity<>(taskService.moveTask(projectId, taskId, request), HttpStatus.OK);
     }
 
     @GetMapping
     public ResponseEntity<Page<TaskListResponse>> getTasksByProject(@PathVariable String projectId,
                                                                     @RequestParam(defaultValue = "0") int page,
-                                                                    @RequestParam(defaultValue = "10") int size
+                                                                    @RequestParam(defaultValue = "10") int size,
+                                                                    @RequestParam(required = false) String fields,
+                                                                    TaskListFilter filter
                                                                     ){
-        return new ResponseEntity<>(taskService.getTasksByProject(projectId,page,size),HttpStatus.OK);
+        return new ResponseEntity<>(taskService.getTasksByProject(projectId,page,size,fields,filter),HttpStatus.OK);
+    }
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponse<TaskListResponse>> getTasksByProjectAfter(@PathVariable String projectId,
+                                                                                       @RequestParam(required = false) String after,
+                                                                                       @RequestParam(defaultValue = "10") int size,
+                                                                                       @RequestParam(required = false) String fields,
+                                                                                       TaskListFilter filter){
+        return new ResponseEntity<>(taskService.getTasksByProjectAfter(projectId, after, size, fields, filter), HttpStatus.OK);
+    }
+    // Whole board in one call: ?limit= cards per column. "Load more" passes a column's nextCursor back as
+    // ?after= (repeatable, one per column); ?status= picks the columns explicitly.
+    @GetMapping("/board")
+    public ResponseEntity<TaskBoardResponse> getBoard(@PathVariable String projectId,
+                                                      @RequestParam(required = false) List<String> status,
+                                                      @RequestParam(required = false) List<String> after,
+                                                      @RequestParam(defaultValue = "20") int limit,
+                                                      @RequestParam(required = false) String fields,
+                                                      TaskListFilter filter){
+        return new ResponseEntity<>(taskService.getBoard(projectId, status, after, limit, fields, filter), HttpStatus.OK);
+    }
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageResponse<TaskListResponse>> searchTasks(@PathVariable String projectId,
+                                                                            @RequestParam String q,
+                                                                            @RequestParam(required = false) String after,
+                                                                            @RequestParam(defaultValue = "10") int size,
+                                                                            @RequestParam(required = false) String fields){
+        return new ResponseEntity<>(taskService.searchTasksInProject(projectId, q, after, size, fields), HttpStatus.OK);
+    }
+    @GetMapping("/activity")
+    public ResponseEntity<CursorPageResponse<TaskActivityResponse>> getProjectActivity(@PathVariable String projectId,
+                                                                                      @RequestParam(required = false) String after,
+                                                                                      @RequestParam(defaultValue = "20") int size){
+        return new ResponseEntity<>(taskService.getProjectActivity(projectId, after, size), HttpStatus.OK);
+    }
+    @GetMapping("/{taskId}/activity")
+    public ResponseEntity<CursorPageResponse<TaskActivityResponse>> getTaskActivity(@PathVariable String projectId,
+                                                                                   @PathVariable String taskId,
+                                                                                   @RequestParam(required = false) String after,
+                                                                                   @RequestParam(defaultValue = "20") int size){
+        return new ResponseEntity<>(taskService.getTaskActivity(projectId, taskId, after, size), HttpStatus.OK);
+    }
+    @PutMapping("/bulk/status")
+    public ResponseEntity<BulkUpdateResponse> bulkChangeStatus(@PathVariable String projectId, @Valid @RequestBody BulkStatusChangeRequest request){
+        return new ResponseEntity<>(taskService.bulkChangeStatus(projectId, request), HttpStatus.OK);
+    }
+    @PutMapping("/bulk/assign")
+    public ResponseEntity<BulkUpdateResponse> bulkAssign(@PathVariable String projectId, @Valid @RequestBody BulkAssignRequest request){
+        return new ResponseEntity<>(taskService.bulkAssign(projectId, request), HttpStatus.OK);
     }
     @PutMapping("/{taskId}/status")
     public ResponseEntity<TaskResponse> changeTaskStatus(@PathVariable String taskId, @RequestBody ChangeTaskStatusRequest request){
         return new ResponseEntity<>(taskService.changeTaskStatus(taskId,request), HttpStatus.OK);
     }
+    // Drag and drop on the board: new column (optional) and the card it was dropped below
+    @PutMapping("/{taskId}/rank")
+    public ResponseEntity<TaskResponse> reorderTask(@PathVariable String projectId, @PathVariable String taskId, @RequestBody ReorderTaskRequest request){
+        return new ResponseEntity<>(taskService.reorderTask(projectId, taskId, request), HttpStatus.OK);
+    }
     @PutMapping("/{taskId}/assign")
     public ResponseEntity<TaskResponse> assignTask(@PathVariable String taskId, @Valid @RequestBody AssignTaskRequest request){
         return new ResponseEntity<>(taskService.assignTask(taskId,request), HttpStatus.OK);
     }
 
     @DeleteMapping("/{taskId}")
-    public ResponseEntity<Void> deleteTask(@PathVariable String taskId){
-        return ResponseEntity.status(HttpStatus.NO_CONTENT).body(taskService.deleteTask(taskId));
+    public ResponseEntity<TaskDeletionResponse> deleteTask(@PathVariable String taskId){
+        TaskDeletionResponse response = taskService.deleteTask(taskId);
+        // Large subtrees are removed in the background: 202 tells the caller the delete is still running
+        if (response.isAsync()) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+        }
+        return ResponseEntity.noContent().build();
     }
 }
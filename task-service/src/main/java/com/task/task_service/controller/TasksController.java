@@ -1,5 +1,9 @@
 package com.task.task_service.controller;
 
+import com.task.task_service.dto.CursorPageResponse;
+import com.task.task_service.dto.ProjectTaskCounts;
+import com.task.task_service.dto.TaskListFilter;
+import com.task.task_service.dto.TaskListResponse;
 import com.task.task_service.dto.TaskResponse;
 import com.task.task_service.service.TaskService;
 import org.springframework.data.domain.Page;
@@ -22,7 +26,21 @@ public class TasksController {
     }
     @PostMapping()
     public ResponseEntity<Page<TaskResponse>> getTasksByOrg(@RequestBody List<String> projectIds,
-                                                            @PageableDefault(size = 20,page = 0) Pageable pageable){
-        return ResponseEntity.ok(taskService.getTasksByOrg(projectIds,pageable));
+                                                            @PageableDefault(size = 20,page = 0) Pageable pageable,
+                                                            @RequestParam(required = false) String fields,
+                                                            TaskListFilter filter){
+        return ResponseEntity.ok(taskService.getTasksByOrg(projectIds,pageable,fields,filter));
+    }
+    @PostMapping("/counts")
+    public ResponseEntity<List<ProjectTaskCounts>> getTaskCounts(@RequestBody List<String> projectIds){
+        return ResponseEntity.ok(taskService.getTaskCounts(projectIds));
+    }
+    @PostMapping("/search")
+    public ResponseEntity<CursorPageResponse<TaskListResponse>> searchTasks(@RequestBody List<String> projectIds,
+                                                                            @RequestParam String q,
+                                                                            @RequestParam(required = false) String after,
+                                                                            @RequestParam(defaultValue = "10") int size,
+                                                                            @RequestParam(required = false) String fields){
+        return ResponseEntity.ok(taskService.searchTasks(projectIds, q, after, size, fields));
     }
 }
@@ -0,0 +1,20 @@
+package com.task.task_service.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BulkCreateTaskRequest {
+    @NotEmpty
+    @Size(max = 10000)
+    @Valid
+    private List<BulkTaskItem> tasks;
+}
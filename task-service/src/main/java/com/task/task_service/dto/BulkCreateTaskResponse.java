@@ -0,0 +1,15 @@
+package com.task.task_service.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BulkCreateTaskResponse {
+    private int created;
+    private List<String> ids; // Same order as the request items
+}
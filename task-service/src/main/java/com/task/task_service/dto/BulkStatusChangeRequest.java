@@ -0,0 +1,21 @@
+package com.task.task_service.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BulkStatusChangeRequest {
+    // Either taskIds or filter selects the tasks
+    @Size(max = 10000)
+    private List<String> taskIds;
+    private BulkTaskFilter filter;
+    @NotBlank
+    private String status;
+}
@@ -0,0 +1,14 @@
+package com.task.task_service.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BulkTaskFilter {
+    // Every non-null field narrows the selection; the project is always implied by the path
+    private String status;
+    private String assignedToAuthId;
+}
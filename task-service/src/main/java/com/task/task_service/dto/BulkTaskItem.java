@@ -0,0 +1,31 @@
+package com.task.task_service.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BulkTaskItem {
+    // Client-side key so other items in the same batch can point at this one through parentRef
+    private String ref;
+    private String parentRef;
+    // Parent that already exists in the database
+    private String parentId;
+    @NotNull
+    private String title;
+    private String description;
+    private String priority;
+    private OffsetDateTime dueDate;
+    private String assignedToAuthId;
+
+    private List<String> tags;
+
+    private Map<String, Object> attributes;
+}
@@ -0,0 +1,15 @@
+package com.task.task_service.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BulkUpdateResponse {
+    private int updated;
+    private List<String> ids; // Tasks actually changed; skipped ones are terminal or already in the target state
+}
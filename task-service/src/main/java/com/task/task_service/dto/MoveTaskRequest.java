@@ -0,0 +1,10 @@
+package com.task.task_service.dto;
+
+import lombok.Data;
+
+@Data
+public class MoveTaskRequest {
+
+    // null moves the task to the top level of its project
+    private String newParentId;
+}
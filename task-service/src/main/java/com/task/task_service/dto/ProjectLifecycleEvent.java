@@ -0,0 +1,17 @@
+package com.task.task_service.dto;
+
+import lombok.*;
+
+import java.time.OffsetDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ProjectLifecycleEvent {
+    private String projectId;
+    private String orgId;
+    private String type;
+    private OffsetDateTime timestamp;
+}
@@ -0,0 +1,16 @@
+package com.task.task_service.dto;
+
+import lombok.*;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ProjectTaskCounts {
+    private String projectId;
+    private Map<String, Long> counts; // Every status is present, zero when the project has none
+    private long total;
+}
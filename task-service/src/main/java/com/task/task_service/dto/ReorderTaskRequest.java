@@ -0,0 +1,12 @@
+package com.task.task_service.dto;
+
+import lombok.Data;
+
+@Data
+public class ReorderTaskRequest {
+
+    // Target column; null keeps the task's current status
+    private String status;
+    // Card the task is dropped right below; null puts it at the top of the column
+    private String afterTaskId;
+}
@@ -0,0 +1,20 @@
+package com.task.task_service.dto;
+
+import lombok.*;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TaskActivityResponse {
+    private Long id;
+    private String taskId;
+    private String projectId;
+    private String action;
+    private Map<String, Object> changes; // field -> {"from": ..., "to": ...}
+    private OffsetDateTime occurredAt;
+}
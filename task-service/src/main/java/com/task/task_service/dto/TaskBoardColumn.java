@@ -0,0 +1,18 @@
+package com.task.task_service.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TaskBoardColumn {
+    private String status;
+    private List<TaskListResponse> tasks;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor; // Pass back as ?after= to load more of this column only
+}
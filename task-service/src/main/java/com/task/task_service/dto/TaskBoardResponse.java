@@ -0,0 +1,15 @@
+package com.task.task_service.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TaskBoardResponse {
+    private String projectId;
+    private List<TaskBoardColumn> columns;
+}
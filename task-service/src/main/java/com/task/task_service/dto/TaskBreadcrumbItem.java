@@ -0,0 +1,15 @@
+package com.task.task_service.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TaskBreadcrumbItem {
+    private String id;
+    private String title;
+    private String status;
+    private int depth;
+}
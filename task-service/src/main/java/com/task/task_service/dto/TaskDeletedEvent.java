@@ -0,0 +1,20 @@
+package com.task.task_service.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// One event per deleted subtree, however many rows it removed
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskDeletedEvent {
+    private String rootTaskId;
+    private String projectId;
+    private int deletedCount;
+    private List<String> deletedTaskIds;
+    private LocalDateTime timestamp;
+}
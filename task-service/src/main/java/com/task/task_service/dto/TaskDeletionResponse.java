@@ -0,0 +1,14 @@
+package com.task.task_service.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TaskDeletionResponse {
+    private String rootTaskId;
+    private long taskCount; // Size of the subtree when the delete was accepted
+    private boolean async; // true when the subtree is being removed in the background
+}
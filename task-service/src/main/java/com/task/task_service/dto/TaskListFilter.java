@@ -0,0 +1,17 @@
+package com.task.task_service.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+// Optional list filters bound from query params: ?tags=a,b&tagMatch=all&attributes={"sprint":"12"}
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TaskListFilter {
+    private List<String> tags;
+    private String tagMatch; // any (default) or all
+    private String attributes; // JSON object the task's attributes must contain
+}
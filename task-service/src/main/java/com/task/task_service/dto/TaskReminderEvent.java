@@ -0,0 +1,21 @@
+package com.task.task_service.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// One message per assignee and reminder kind, carrying every task of theirs found in the scanned window
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskReminderEvent {
+    private String assignedUserId;
+    private String userEmail;
+    private String userFullName;
+    private String kind;
+    private List<TaskReminderItem> tasks;
+    private LocalDateTime timestamp;
+}
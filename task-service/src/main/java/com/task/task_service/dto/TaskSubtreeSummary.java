@@ -0,0 +1,17 @@
+package com.task.task_service.dto;
+
+import lombok.*;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TaskSubtreeSummary {
+    private String taskId;
+    private int depth;
+    private long descendantCount;
+    private Map<String, Long> descendantStatusCounts; // Every status is present, zero when unused
+}
@@ -0,0 +1,14 @@
+package com.task.task_service.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSummary {
+    private String authId;
+    private String email;
+    private String name;
+}
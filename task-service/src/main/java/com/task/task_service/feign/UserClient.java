@@ -1,9 +1,14 @@
 package com.task.task_service.feign;
 
 import com.task.task_service.dto.EmailAndName;
+import com.task.task_service.dto.UserSummary;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
 
 @FeignClient(name = "user-service", url = "http://localhost:8082/api/users")
 public interface UserClient {
@@ -11,4 +16,6 @@ public interface UserClient {
     Boolean getUserById(@PathVariable String authId);
     @GetMapping("/email/{authId}")
     EmailAndName getUser(@PathVariable String authId);
+    @PostMapping("/betch-fetch")
+    List<UserSummary> getUsersByIds(@RequestBody List<String> authIds);
 }
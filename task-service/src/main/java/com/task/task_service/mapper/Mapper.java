@@ -1,9 +1,35 @@
 package com.task.task_service.mapper;
 
+import com.task.task_service.dto.TaskActivityResponse;
+import com.task.task_service.dto.TaskBreadcrumbItem;
 import com.task.task_service.dto.TaskListResponse;
 import com.task.task_service.dto.TaskResponse;
 import com.task.task_service.model.Task;
+import com.task.task_service.repository.projection.TaskActivityEntry;
+import com.task.task_service.repository.projection.TaskPathNode;
+import com.task.task_service.repository.projection.TaskRow;
+
 public class Mapper {
+    public static TaskActivityResponse toTaskActivityResponse(TaskActivityEntry entry) {
+        return TaskActivityResponse.builder()
+                .id(entry.id())
+                .taskId(entry.taskId())
+                .projectId(entry.projectId())
+                .action(entry.action().name())
+                .changes(entry.changes())
+                .occurredAt(entry.occurredAt())
+                .build();
+    }
+
+    public static TaskBreadcrumbItem toBreadcrumbItem(TaskPathNode node) {
+        return TaskBreadcrumbItem.builder()
+                .id(node.id())
+                .title(node.title())
+                .status(node.status().name())
+                .depth(node.depth())
+                .build();
+    }
+
     public static TaskResponse toTaskresponse(Task task){
         return TaskResponse.builder()
                 .id(task.getId())
@@ -19,7 +45,7 @@ public class Mapper {
                 .attributes(task.getAttributes())
                 .createdAt(task.getCreatedAt())
                 .updatedAt(task.getUpdatedAt())
-                .parentId(task.getProjectId())
+                .parentId(parentIdOf(task))
                 .build();
 
     }
@@ -35,9 +61,53 @@ public class Mapper {
                 .description(task.getDescription())
                 .assignedToAuthId(task.getAssignedToAuthId())
                 .projectId(task.getProjectId())
-                .parentId(task.getParent()!=null ?task.getParent().getId():null)
+                .parentId(parentIdOf(task))
                 .tags(task.getTags())
                 .attributes(task.getAttributes())
                 .build();
     }
+
+    public static TaskListResponse toTaskListResponse(TaskRow row) {
+        return TaskListResponse.builder()
+                .id(row.id())
+                .title(row.title())
+                .status(row.status().name())
+                .priority(row.priority().name())
+                .dueDate(row.dueDate())
+                .createdByAuthId(row.createdByAuthId())
+                .description(row.description())
+                .assignedToAuthId(row.assignedToAuthId())
+                .projectId(row.projectId())
+                .parentId(row.parentId())
+                .tags(row.tags())
+                .attributes(row.attributes())
+                .build();
+    }
+
+    public static TaskResponse toTaskresponse(TaskRow row) {
+        return TaskResponse.builder()
+                .id(row.id())
+                .title(row.title())
+                .description(row.description())
+                .status(row.status().name())
+                .priority(row.priority().name())
+                .dueDate(row.dueDate())
+                .createdByAuthId(row.createdByAuthId())
+                .assignedToAuthId(row.assignedToAuthId())
+                .tags(row.tags())
+                .projectId(row.projectId())
+                .attributes(row.attributes())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .parentId(row.parentId())
+                .build();
+    }
+
+    // parent_id is read-only on the entity, so it is only populated for loaded rows, not freshly saved ones
+    private static String parentIdOf(Task task) {
+        if (task.getParentId() != null) {
+            return task.getParentId();
+        }
+        return task.getParent() != null ? task.getParent().getId() : null;
+    }
 }
@@ -1,22 +1,92 @@
 package com.task.task_service.messaging;
 
 import com.task.task_service.dto.TaskAssignedEvent;
+import com.task.task_service.dto.TaskDeletedEvent;
+import com.task.task_service.dto.TaskReminderEvent;
 import com.task.task_service.messaging.config.RabbitConfig;
+import com.task.task_service.model.OutboxEvent;
+import com.task.task_service.repository.OutboxEventRepository;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Events are written to the outbox inside the caller's transaction; OutboxRelay sends them to RabbitMQ.
 @Service
 @Slf4j
 public class EventPublisher {
-    private final RabbitTemplate rabbitTemplate;
-    public EventPublisher(RabbitTemplate rabbitTemplate) {
-        this.rabbitTemplate = rabbitTemplate;
+    private final OutboxEventRepository outboxEventRepository;
+    private final Jackson2JsonMessageConverter messageConverter;
+    private final Tracer tracer;
+    private final Propagator propagator;
+    public EventPublisher(OutboxEventRepository outboxEventRepository, Jackson2JsonMessageConverter messageConverter,
+                          Tracer tracer, Propagator propagator) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.messageConverter = messageConverter;
+        this.tracer = tracer;
+        this.propagator = propagator;
     }
 
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publishTaskAssignedEvent(TaskAssignedEvent event,String routingKey){
-        log.info("Publishing task assigned event: {}", event);
-        rabbitTemplate.convertAndSend(RabbitConfig.EXCHANGE,routingKey,event);
-        log.info("Task assigned event published successfully");
+        log.info("Queueing task assigned event: {}", event);
+        outboxEventRepository.save(toOutboxEvent(event, routingKey));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishTaskAssignedEvents(List<TaskAssignedEvent> events, String routingKey){
+        if (events.isEmpty()) {
+            return;
+        }
+        log.info("Queueing {} task assigned events", events.size());
+        outboxEventRepository.saveAll(events.stream().map(event -> toOutboxEvent(event, routingKey)).toList());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishTaskDeletedEvent(TaskDeletedEvent event, String routingKey){
+        log.info("Queueing task deleted event for {} ({} tasks)", event.getRootTaskId(), event.getDeletedCount());
+        outboxEventRepository.save(toOutboxEvent(event, routingKey));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishTaskReminderEvents(List<TaskReminderEvent> events, String routingKey){
+        if (events.isEmpty()) {
+            return;
+        }
+        log.info("Queueing {} task reminder events", events.size());
+        outboxEventRepository.saveAll(events.stream().map(event -> toOutboxEvent(event, routingKey)).toList());
+    }
+
+    private OutboxEvent toOutboxEvent(Object event, String routingKey) {
+        Message message = messageConverter.toMessage(event, new MessageProperties());
+        return OutboxEvent.builder()
+                .exchange(RabbitConfig.EXCHANGE)
+                .routingKey(routingKey)
+                .typeId(message.getMessageProperties().getHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME))
+                .payload(new String(message.getBody(), StandardCharsets.UTF_8))
+                .traceParent(currentTraceParent())
+                .build();
+    }
+
+    private String currentTraceParent() {
+        TraceContext context = tracer.currentTraceContext().context();
+        if (context == null) {
+            return null;
+        }
+        Map<String, String> headers = new HashMap<>();
+        propagator.inject(context, headers, Map::put);
+        return headers.get(OutboxRelay.TRACEPARENT);
     }
 }
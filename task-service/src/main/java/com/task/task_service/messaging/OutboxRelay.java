@@ -0,0 +1,110 @@
+package com.task.task_service.messaging;
+
+import com.task.task_service.model.OutboxEvent;
+import com.task.task_service.repository.OutboxEventRepository;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+// Drains outbox_events into RabbitMQ. Each batch is locked with SKIP LOCKED, published on one channel,
+// confirmed by the broker and only then deleted, so several instances can relay side by side.
+// Delivery is at-least-once: a crash between confirm and commit re-sends that batch.
+// Each message is sent inside a span continuing the trace of the request that wrote it, so consumers see
+// one trace from that request through the relay delay to their listener.
+@Component
+@Slf4j
+public class OutboxRelay {
+    static final String TRACEPARENT = "traceparent";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Tracer tracer;
+    private final Propagator propagator;
+    private final int batchSize;
+    private final long confirmTimeoutMs;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       RabbitTemplate rabbitTemplate,
+                       TransactionTemplate transactionTemplate,
+                       Tracer tracer,
+                       Propagator propagator,
+                       @Value("${app.outbox.batch-size:200}") int batchSize,
+                       @Value("${app.outbox.confirm-timeout-ms:5000}") long confirmTimeoutMs) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.tracer = tracer;
+        this.propagator = propagator;
+        this.batchSize = batchSize;
+        this.confirmTimeoutMs = confirmTimeoutMs;
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:500}")
+    public void relay() {
+        try {
+            int sent;
+            do {
+                sent = transactionTemplate.execute(status -> relayBatch());
+            } while (sent == batchSize);
+        } catch (RuntimeException e) {
+            // Rows stay in the table and are retried on the next poll
+            log.warn("Outbox relay failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        rabbitTemplate.invoke(operations -> {
+            batch.forEach(event -> send(operations, event));
+            operations.waitForConfirmsOrDie(confirmTimeoutMs);
+            return null;
+        });
+        outboxEventRepository.deleteAllInBatch(batch);
+        log.info("Relayed {} outbox events", batch.size());
+        return batch.size();
+    }
+
+    private void send(RabbitOperations operations, OutboxEvent event) {
+        if (event.getTraceParent() == null) {
+            operations.send(event.getExchange(), event.getRoutingKey(), toMessage(event));
+            return;
+        }
+        Span span = propagator.extract(Map.of(TRACEPARENT, event.getTraceParent()), Map::get)
+                .name("outbox relay")
+                .tag("outbox.event.id", String.valueOf(event.getId()))
+                .start();
+        // The template's publish observation becomes a child of this span and carries it in the message headers
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            operations.send(event.getExchange(), event.getRoutingKey(), toMessage(event));
+        } finally {
+            span.end();
+        }
+    }
+
+    private Message toMessage(OutboxEvent event) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setContentEncoding(StandardCharsets.UTF_8.name());
+        properties.setMessageId(String.valueOf(event.getId()));
+        properties.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, event.getTypeId());
+        return new Message(event.getPayload().getBytes(StandardCharsets.UTF_8), properties);
+    }
+}
@@ -0,0 +1,30 @@
+package com.task.task_service.messaging;
+
+import com.task.task_service.cache.ProjectExistenceCache;
+import com.task.task_service.dto.ProjectLifecycleEvent;
+import com.task.task_service.messaging.config.RabbitConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+public class ProjectLifecycleListener {
+    private final ProjectExistenceCache projectExistenceCache;
+
+    public ProjectLifecycleListener(ProjectExistenceCache projectExistenceCache) {
+        this.projectExistenceCache = projectExistenceCache;
+    }
+
+    @RabbitListener(queues = RabbitConfig.PROJECT_LIFECYCLE_QUEUE)
+    public void listen(ProjectLifecycleEvent event, @Header(AmqpHeaders.RECEIVED_ROUTING_KEY) String routingKey) {
+        log.info("Project lifecycle event received: {} {}", routingKey, event.getProjectId());
+        switch (routingKey) {
+            case RabbitConfig.PROJECT_LIFECYCLE_CREATED_KEY -> projectExistenceCache.onProjectCreated(event.getProjectId());
+            case RabbitConfig.PROJECT_LIFECYCLE_DELETED_KEY -> projectExistenceCache.onProjectDeleted(event.getProjectId());
+            default -> log.warn("Ignoring unknown project lifecycle event: {}", routingKey);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.task.task_service.messaging.config;
 
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -13,6 +16,27 @@ public class RabbitConfig {
 
     public static final String EXCHANGE = "task.exchange";
     public static final String TASK_ASSIGNED_KEY = "task.assigned";
+    public static final String TASK_DELETED_KEY = "task.deleted";
+    public static final String TASK_REMINDER_KEY = "task.reminder";
+
+    // Project lifecycle events from project-service, used to invalidate ProjectExistenceCache
+    public static final String PROJECT_EXCHANGE = "project.exchange";
+    public static final String PROJECT_LIFECYCLE_QUEUE = "task-service.project.lifecycle.queue";
+    public static final String PROJECT_LIFECYCLE_CREATED_KEY = "project.lifecycle.created";
+    public static final String PROJECT_LIFECYCLE_DELETED_KEY = "project.lifecycle.deleted";
+
+    @Bean
+    public TopicExchange projectExchange() {
+        return new TopicExchange(PROJECT_EXCHANGE);
+    }
+    @Bean
+    public Queue projectLifecycleQueue() {
+        return new Queue(PROJECT_LIFECYCLE_QUEUE);
+    }
+    @Bean
+    public Binding projectLifecycleBinding() {
+        return BindingBuilder.bind(projectLifecycleQueue()).to(projectExchange()).with("project.lifecycle.*");
+    }
 
     @Bean
     public Jackson2JsonMessageConverter messageConverter(){
@@ -23,6 +47,8 @@ public class RabbitConfig {
                                          Jackson2JsonMessageConverter converter) {
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
         rabbitTemplate.setMessageConverter(converter);
+        // Times every publish as spring.rabbit.template (this bean replaces Boot's, so the property would not apply)
+        rabbitTemplate.setObservationEnabled(true);
         return rabbitTemplate;
     }
 }
@@ -0,0 +1,46 @@
+package com.task.task_service.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.OffsetDateTime;
+
+// Message waiting to be relayed to RabbitMQ. Written in the same transaction as the change it describes,
+// so an event exists if and only if that change committed.
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    // Sequence (not identity) so bulk writes can still be JDBC-batched
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private String exchange;
+
+    @Column(name = "routing_key", nullable = false)
+    private String routingKey;
+
+    // __TypeId__ header the JSON converter would have set, so consumers keep deserializing the same way
+    @Column(name = "type_id", nullable = false)
+    private String typeId;
+
+    @Column(columnDefinition = "text", nullable = false)
+    private String payload;
+
+    // W3C traceparent of the request that wrote the event, so the relayed message joins that request's trace
+    @Column(name = "trace_parent")
+    private String traceParent;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private OffsetDateTime createdAt;
+}
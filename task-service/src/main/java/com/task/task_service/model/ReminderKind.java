@@ -0,0 +1,6 @@
+package com.task.task_service.model;
+
+public enum ReminderKind {
+    DUE_SOON,
+    OVERDUE
+}
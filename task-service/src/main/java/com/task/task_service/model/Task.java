@@ -18,7 +18,11 @@ import java.util.*;
                 @Index(name = "idx_tasks_project", columnList = "project_id"),
                 @Index(name = "idx_tasks_assigned", columnList = "assigned_to_auth_id"),
                 @Index(name = "idx_tasks_parent", columnList = "parent_id"),
-                @Index(name = "idx_tasks_status", columnList = "status")
+                @Index(name = "idx_tasks_status", columnList = "status"),
+                @Index(name = "idx_tasks_project_due_id", columnList = "project_id, due_date, id"),
+                // Board: one (status, board_rank, id) slice per column inside a project
+                @Index(name = "idx_tasks_project_status_rank", columnList = "project_id, status, board_rank, id")
+                // Prefix index on path (text_pattern_ops) and the partial reminder indexes live in schema.sql
         }
 )
 @Getter
@@ -52,6 +56,7 @@ public class Task {
     @Builder.Default
     private Priority priority=Priority.MEDIUM;
 
+    @Column(name = "due_date")
     private OffsetDateTime dueDate;
 
     @Column(name = "created_by_auth_id", nullable = false)
@@ -65,6 +70,26 @@ public class Task {
     @JoinColumn(name = "parent_id")
     private Task parent;
 
+    // Read-only view of the FK so read paths never have to touch the lazy parent proxy
+    @Column(name = "parent_id", insertable = false, updatable = false)
+    private String parentId;
+
+    // Materialized path: ancestor ids root-first, each followed by '/'; "" for top-level tasks.
+    // Descendants of X are the rows whose path starts with X.path + X.id + "/" (one index range scan).
+    @Column(columnDefinition = "text")
+    @Builder.Default
+    private String path = "";
+
+    // Number of ancestors; 0 for top-level tasks
+    @Builder.Default
+    private Integer depth = 0;
+
+    // Position inside its board column (project + status), see BoardRank. "C" collation compares bytes, like
+    // the keys do. Set on insert, afterwards only rewritten with plain SQL (TaskRepositoryCustom): a stale
+    // entity being saved cannot undo a reorder or a rebalance, and reordering never bumps the version.
+    @Column(name = "board_rank", updatable = false, columnDefinition = "text COLLATE \"C\"")
+    private String boardRank;
+
     @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Task> subTasks = new ArrayList<>();
 
@@ -78,6 +103,14 @@ public class Task {
     @Column(columnDefinition = "jsonb")
     private Map<String, Object> attributes = new HashMap<>();
 
+    // When the assignee was last reminded that the task is due soon / overdue; cleared whenever the due date
+    // or the assignee changes, so the new combination is reminded about again
+    @Column(name = "due_soon_reminded_at")
+    private OffsetDateTime dueSoonRemindedAt;
+
+    @Column(name = "overdue_reminded_at")
+    private OffsetDateTime overdueRemindedAt;
+
     @Version
     private Integer version;
 
@@ -93,4 +126,16 @@ public class Task {
         subTasks.add(subTask);
         subTask.setParent(this);
     }
+
+    public void clearReminders() {
+        setDueSoonRemindedAt(null);
+        setOverdueRemindedAt(null);
+    }
+
+    // Places this task directly under the given parent (or at the top level when parent is null)
+    public void placeUnder(Task parent) {
+        setParent(parent);
+        setPath(parent == null ? "" : parent.getPath() + parent.getId() + "/");
+        setDepth(parent == null ? 0 : parent.getDepth() + 1);
+    }
 }
@@ -0,0 +1,8 @@
+package com.task.task_service.model;
+
+public enum TaskActivityAction {
+    UPDATED,
+    ASSIGNED,
+    STATUS_CHANGED,
+    MOVED
+}
@@ -0,0 +1,32 @@
+package com.task.task_service.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// One of several rows ("stripes") holding part of a project's count for a status. Writers pick a random
+// stripe so concurrent updates on a hot project rarely wait on the same row lock; readers sum the stripes.
+// Individual stripes may go negative, only the sum is meaningful.
+@Entity
+@Table(name = "task_status_counters")
+@IdClass(TaskStatusCounterId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskStatusCounter {
+
+    @Id
+    @Column(name = "project_id")
+    private String projectId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    @Id
+    private int stripe;
+
+    @Column(nullable = false)
+    private long count;
+}
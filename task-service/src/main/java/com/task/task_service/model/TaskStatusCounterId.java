@@ -0,0 +1,16 @@
+package com.task.task_service.model;
+
+import lombok.*;
+
+import java.io.Serializable;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class TaskStatusCounterId implements Serializable {
+    private String projectId;
+    private Status status;
+    private int stripe;
+}
@@ -0,0 +1,93 @@
+package com.task.task_service.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task.task_service.model.TaskActivityAction;
+import com.task.task_service.repository.projection.TaskActivityEntry;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+// task_activity is range-partitioned (see schema.sql), which Hibernate cannot map or create, so it is
+// read and written with plain JDBC. Rows are only ever inserted; old months go away by dropping partitions.
+@Repository
+public class TaskActivityRepository {
+    private static final TypeReference<Map<String, Object>> CHANGES_TYPE = new TypeReference<>() {
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final RowMapper<TaskActivityEntry> rowMapper;
+
+    public TaskActivityRepository(NamedParameterJdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.rowMapper = (rs, rowNum) -> new TaskActivityEntry(
+                rs.getLong("id"),
+                rs.getString("task_id"),
+                rs.getString("project_id"),
+                TaskActivityAction.valueOf(rs.getString("action")),
+                readChanges(rs.getString("changes")),
+                rs.getObject("occurred_at", OffsetDateTime.class));
+    }
+
+    // One multi-row batch (reWriteBatchedInserts) per call
+    public void insertAll(List<TaskActivityEntry> entries) {
+        SqlParameterSource[] batch = entries.stream()
+                .map(entry -> new MapSqlParameterSource("taskId", entry.taskId())
+                        .addValue("projectId", entry.projectId())
+                        .addValue("action", entry.action().name())
+                        .addValue("changes", writeChanges(entry.changes()))
+                        .addValue("occurredAt", entry.occurredAt()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate("INSERT INTO task_activity (task_id, project_id, action, changes, occurred_at)" +
+                " VALUES (:taskId, :projectId, :action, CAST(:changes AS jsonb), :occurredAt)", batch);
+    }
+
+    // Newest first, keyset on (occurred_at, id). Partitions are scanned in range order, so a page only
+    // touches the most recent partitions that hold it.
+    public List<TaskActivityEntry> findByTaskId(String taskId, OffsetDateTime afterOccurredAt, Long afterId, int limit) {
+        return findPage("a.task_id = :key", taskId, afterOccurredAt, afterId, limit);
+    }
+
+    public List<TaskActivityEntry> findByProjectId(String projectId, OffsetDateTime afterOccurredAt, Long afterId, int limit) {
+        return findPage("a.project_id = :key", projectId, afterOccurredAt, afterId, limit);
+    }
+
+    private List<TaskActivityEntry> findPage(String where, String key, OffsetDateTime afterOccurredAt, Long afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("key", key)
+                .addValue("limit", limit);
+        String seek = "";
+        if (afterOccurredAt != null && afterId != null) {
+            seek = " AND (a.occurred_at, a.id) < (:occurredAt, :id)";
+            params.addValue("occurredAt", afterOccurredAt).addValue("id", afterId);
+        }
+        String sql = "SELECT a.id, a.task_id, a.project_id, a.action, a.changes, a.occurred_at FROM task_activity a" +
+                " WHERE " + where + seek +
+                " ORDER BY a.occurred_at DESC, a.id DESC LIMIT :limit";
+        return jdbcTemplate.query(sql, params, rowMapper);
+    }
+
+    private String writeChanges(Map<String, Object> changes) {
+        try {
+            return objectMapper.writeValueAsString(changes);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize task activity", e);
+        }
+    }
+
+    private Map<String, Object> readChanges(String json) {
+        try {
+            return objectMapper.readValue(json, CHANGES_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable task activity changes", e);
+        }
+    }
+}
@@ -1,15 +1,50 @@
 package com.task.task_service.repository;
 
 import com.task.task_service.model.Task;
+import com.task.task_service.repository.projection.StatusCount;
+import com.task.task_service.repository.projection.TaskPathNode;
+import com.task.task_service.repository.projection.TaskPathView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface TaskRepository extends JpaRepository<Task, String> {
+public interface TaskRepository extends JpaRepository<Task, String>, TaskRepositoryCustom {
     Page<Task> findAllByProjectId(String projectId, Pageable pageable);
 
     Page<Task> findAllByProjectIdIn(List<String> projectIds,Pageable pageable);
+
+    @Query("SELECT new com.task.task_service.repository.projection.TaskPathView(t.id, t.projectId, t.path, t.depth)" +
+            " FROM Task t WHERE t.id = :id")
+    Optional<TaskPathView> findPathById(@Param("id") String id);
+
+    @Query("SELECT new com.task.task_service.repository.projection.TaskPathView(t.id, t.projectId, t.path, t.depth)" +
+            " FROM Task t WHERE t.id IN :ids")
+    List<TaskPathView> findPathsByIdIn(@Param("ids") Collection<String> ids);
+
+    // Root plus descendants down to maxDepth (absolute), parents before children
+    @Query(value = "SELECT t.* FROM tasks t WHERE t.id = :rootId OR (t.path LIKE :pattern AND t.depth <= :maxDepth)" +
+            " ORDER BY t.depth, t.created_at",
+            nativeQuery = true)
+    List<Task> findSubtree(@Param("rootId") String rootId, @Param("pattern") String pattern, @Param("maxDepth") int maxDepth);
+
+    @Query("SELECT count(t) FROM Task t WHERE t.path LIKE :pattern")
+    long countDescendants(@Param("pattern") String pattern);
+
+    // Deepest level first so children always go before their parents
+    @Query("SELECT t.id FROM Task t WHERE t.path LIKE :pattern ORDER BY t.depth DESC")
+    List<String> findDescendantIdsDeepestFirst(@Param("pattern") String pattern);
+
+    @Query("SELECT new com.task.task_service.repository.projection.TaskPathNode(t.id, t.title, t.status, t.depth)" +
+            " FROM Task t WHERE t.id IN :ids ORDER BY t.depth")
+    List<TaskPathNode> findPathNodes(@Param("ids") Collection<String> ids);
+
+    @Query("SELECT new com.task.task_service.repository.projection.StatusCount(t.projectId, t.status, count(t))" +
+            " FROM Task t WHERE t.path LIKE :pattern GROUP BY t.projectId, t.status")
+    List<StatusCount> countDescendantsByStatus(@Param("pattern") String pattern);
 }
@@ -0,0 +1,114 @@
+package com.task.task_service.repository;
+
+import com.task.task_service.model.ReminderKind;
+import com.task.task_service.model.Status;
+import com.task.task_service.repository.projection.BoardCardRank;
+import com.task.task_service.repository.projection.BoardColumnSeek;
+import com.task.task_service.repository.projection.DeletedTask;
+import com.task.task_service.repository.projection.TaskAssigneeChange;
+import com.task.task_service.repository.projection.TaskBoardCard;
+import com.task.task_service.repository.projection.TaskField;
+import com.task.task_service.repository.projection.TaskFilter;
+import com.task.task_service.repository.projection.TaskPathView;
+import com.task.task_service.repository.projection.TaskRow;
+import com.task.task_service.repository.projection.TaskSearchHit;
+import com.task.task_service.repository.projection.TaskSelection;
+import com.task.task_service.repository.projection.TaskStatusChange;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public interface TaskRepositoryCustom {
+    Page<TaskRow> findRowsByProjectId(String projectId, Set<TaskField> fields, TaskFilter filter, Pageable pageable);
+
+    Page<TaskRow> findRowsByProjectIdIn(List<String> projectIds, Set<TaskField> fields, TaskFilter filter, Pageable pageable);
+
+    // Keyset page ordered by (due_date NULLS LAST, id). A null afterId starts from the beginning.
+    List<TaskRow> findRowsByProjectIdAfter(String projectId, Set<TaskField> fields, TaskFilter filter,
+                                           OffsetDateTime afterDueDate, String afterId, int limit);
+
+    // Board: up to limit rows per column, each column in (board_rank, id) order from its own seek position,
+    // in one query. Rows come back grouped by column, in the order of columns, each in (board_rank, id) order.
+    List<TaskBoardCard> findBoardRows(String projectId, Set<TaskField> fields, TaskFilter filter,
+                                      List<BoardColumnSeek> columns, int limit);
+
+    // Board ranks are written only through these (never by a JPA update) and without a version bump, so a
+    // reorder never conflicts with an edit of the same task.
+    Optional<String> findLastBoardRank(String projectId, Status status);
+
+    // Lowest rank in the column strictly above afterRank (null: the column's first), ignoring excludeId
+    Optional<String> findNextBoardRank(String projectId, Status status, String afterRank, String excludeId);
+
+    void updateBoardRank(String id, String boardRank);
+
+    // Column cards with a rank in board order, and new ranks for some of them written in one batch (rebalance)
+    List<BoardCardRank> findBoardColumnRanks(String projectId, Status status);
+
+    void updateBoardRanks(List<String> ids, List<String> boardRanks);
+
+    // Transaction-scoped column lock: moves hold it shared, so they never wait for each other; a rebalance
+    // needs it exclusively, so no move computes a key from neighbours that are being rewritten
+    void lockBoardColumnShared(String projectId, Status status);
+
+    boolean tryLockBoardColumn(String projectId, Status status);
+
+    // Assigned tasks in the given status due in (from, until] that have not had this kind of reminder yet,
+    // earliest due first
+    List<TaskRow> findReminderCandidates(ReminderKind kind, Status status, OffsetDateTime from, OffsetDateTime until,
+                                         int limit);
+
+    // Locks the rows among ids that still have no reminder of this kind; rows another instance is claiming
+    // right now are skipped rather than waited for
+    List<TaskRow> lockReminderCandidates(ReminderKind kind, List<String> ids);
+
+    void markReminded(ReminderKind kind, List<String> ids, OffsetDateTime remindedAt);
+
+    // Full-text search over title/description, best match first. Keyset on (rank DESC, id ASC);
+    // a null afterId starts from the top.
+    List<TaskSearchHit> searchRows(List<String> projectIds, String query, Set<TaskField> fields,
+                                   Float afterRank, String afterId, int limit);
+
+    // Set-based updates: one statement, version bumped so stale JPA copies fail their optimistic check.
+    // Only rows that actually changed are returned.
+    // Moved rows are appended to the new column: rankBase followed by a fixed-width suffix in their old order.
+    List<TaskStatusChange> updateStatus(String projectId, TaskSelection selection, Status status, String rankBase);
+
+    List<TaskAssigneeChange> updateAssignee(String projectId, TaskSelection selection, String assignedToAuthId);
+
+    // Deletes the task and every descendant in one statement. Children referencing a deleted parent are in
+    // the same statement, so the parent_id FK is satisfied when it is checked at the end of it.
+    List<DeletedTask> deleteSubtree(TaskPathView root);
+
+    List<DeletedTask> deleteByIds(List<String> ids);
+
+    // Locks the given rows (in id order, so concurrent moves cannot deadlock) and returns their current paths
+    List<TaskPathView> lockPaths(List<String> ids);
+
+    // Share-locks the given rows root first (depth order) and returns their current paths. Blocks moveTask on
+    // them, but not other readers or child inserts.
+    List<TaskPathView> lockPathsShared(Collection<String> ids);
+
+    // Re-parents the task and rewrites the path/depth of its whole subtree, archived descendants included
+    int moveSubtree(TaskPathView task, String newParentId, String newPath, int newDepth);
+
+    // Cold tier. Terminal leaves last updated before cutoff, oldest first, keyset on (updated_at, id).
+    // A null afterId starts at the oldest.
+    List<TaskRow> findArchiveCandidates(OffsetDateTime cutoff, OffsetDateTime afterUpdatedAt, String afterId, int limit);
+
+    // Moves those of ids that are still archivable from tasks into tasks_archive, leaves only, so a hot
+    // task's parent is always hot too. Returns the number of tasks moved.
+    int archiveTasks(List<String> ids, OffsetDateTime cutoff);
+
+    Optional<TaskPathView> findArchivedPathById(String id);
+
+    // Archived root plus archived descendants down to maxDepth (absolute), parents before children
+    List<TaskRow> findArchivedSubtree(String rootId, String pattern, int maxDepth);
+
+    // Archived descendants of a hot task, removed when that task's subtree is deleted
+    List<DeletedTask> deleteArchivedDescendants(TaskPathView root);
+}
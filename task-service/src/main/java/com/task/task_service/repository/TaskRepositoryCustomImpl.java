@@ -0,0 +1,571 @@
+package com.task.task_service.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task.task_service.exception.BadRequestException;
+import com.task.task_service.model.Priority;
+import com.task.task_service.model.ReminderKind;
+import com.task.task_service.model.Status;
+import com.task.task_service.repository.projection.BoardCardRank;
+import com.task.task_service.repository.projection.BoardColumnSeek;
+import com.task.task_service.repository.projection.DeletedTask;
+import com.task.task_service.repository.projection.TaskAssigneeChange;
+import com.task.task_service.repository.projection.TaskBoardCard;
+import com.task.task_service.repository.projection.TaskField;
+import com.task.task_service.repository.projection.TaskFilter;
+import com.task.task_service.repository.projection.TaskPathView;
+import com.task.task_service.repository.projection.TaskRow;
+import com.task.task_service.repository.projection.TaskSearchHit;
+import com.task.task_service.repository.projection.TaskSelection;
+import com.task.task_service.repository.projection.TaskStatusChange;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+// Column-selective read path for list endpoints. Rows are mapped straight from JDBC, so no entities are
+// managed, no lazy parent proxy is touched and unrequested heavy columns never leave the database.
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+    static final String BASE_COLUMNS = "t.id, t.project_id, t.title, t.status, t.priority, t.due_date, " +
+            "t.created_by_auth_id, t.assigned_to_auth_id, t.parent_id, t.created_at, t.updated_at";
+
+    // Every tasks column that tasks_archive keeps (search_vector is generated and stays hot-only)
+    private static final String ARCHIVE_COLUMNS = "id, project_id, title, description, status, priority, due_date, " +
+            "created_by_auth_id, assigned_to_auth_id, parent_id, path, depth, tags, attributes, version, created_at, updated_at";
+
+    // Only these properties may be sorted on; anything else would be string-concatenated into SQL
+    private static final Map<String, String> SORTABLE = Map.of(
+            "dueDate", "t.due_date",
+            "createdAt", "t.created_at",
+            "updatedAt", "t.updated_at",
+            "title", "t.title",
+            "status", "t.status",
+            "priority", "t.priority");
+
+    // Mirrors what Hibernate does for @Version and @UpdateTimestamp on a managed update
+    private static final String VERSION_BUMP = "version = COALESCE(t.version, 0) + 1, updated_at = now()";
+
+    private static final TypeReference<Map<String, Object>> ATTRIBUTES_TYPE = new TypeReference<>() {
+    };
+
+    private static final RowMapper<DeletedTask> DELETED_TASK = (rs, rowNum) -> new DeletedTask(
+            rs.getString("id"), rs.getString("project_id"), Status.valueOf(rs.getString("status")));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public TaskRepositoryCustomImpl(NamedParameterJdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Page<TaskRow> findRowsByProjectId(String projectId, Set<TaskField> fields, TaskFilter filter, Pageable pageable) {
+        MapSqlParameterSource params = new MapSqlParameterSource("projectId", projectId);
+        return findPage("t.project_id = :projectId" + filterClause(filter, params), params, fields, pageable);
+    }
+
+    @Override
+    public Page<TaskRow> findRowsByProjectIdIn(List<String> projectIds, Set<TaskField> fields, TaskFilter filter, Pageable pageable) {
+        MapSqlParameterSource params = new MapSqlParameterSource("projectIds", projectIds);
+        return findPage("t.project_id IN (:projectIds)" + filterClause(filter, params), params, fields, pageable);
+    }
+
+    @Override
+    public List<TaskRow> findRowsByProjectIdAfter(String projectId, Set<TaskField> fields, TaskFilter filter,
+                                                  OffsetDateTime afterDueDate, String afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("projectId", projectId)
+                .addValue("limit", limit);
+        String where = " FROM tasks t WHERE t.project_id = :projectId" + filterClause(filter, params);
+        String order = " ORDER BY t.due_date ASC NULLS LAST, t.id ASC LIMIT :limit";
+        if (afterId == null) {
+            return jdbcTemplate.query("SELECT " + selectList(fields) + where + order, params, rowMapper(fields));
+        }
+        params.addValue("id", afterId);
+        List<TaskRow> rows = new ArrayList<>();
+        if (afterDueDate != null) {
+            // Dated rows first: a row-value comparison is one range of the (project_id, due_date, id) index, where
+            // an OR with the null tail would leave Postgres filtering the whole project
+            params.addValue("dueDate", afterDueDate);
+            rows.addAll(jdbcTemplate.query("SELECT " + selectList(fields) + where +
+                    " AND (t.due_date, t.id) > (:dueDate, :id)" + order, params, rowMapper(fields)));
+            if (rows.size() == limit) {
+                return rows;
+            }
+            // The page runs into the undated tail, which then starts from its beginning
+            params.addValue("limit", limit - rows.size());
+        }
+        String tailSeek = afterDueDate != null ? "" : " AND t.id > :id";
+        rows.addAll(jdbcTemplate.query("SELECT " + selectList(fields) + where + " AND t.due_date IS NULL" + tailSeek +
+                " ORDER BY t.id ASC LIMIT :limit", params, rowMapper(fields)));
+        return rows;
+    }
+
+    @Override
+    public List<TaskBoardCard> findBoardRows(String projectId, Set<TaskField> fields, TaskFilter filter,
+                                             List<BoardColumnSeek> columns, int limit) {
+        if (columns.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("projectId", projectId)
+                .addValue("limit", limit);
+        // One VALUES row per column with its seek position; a column without a cursor starts after ('', ''),
+        // below every key (ranks are never empty and compare in "C" collation)
+        StringBuilder values = new StringBuilder();
+        for (int i = 0; i < columns.size(); i++) {
+            BoardColumnSeek column = columns.get(i);
+            boolean fromTop = column.afterId() == null;
+            params.addValue("status" + i, column.status().name())
+                    .addValue("afterRank" + i, fromTop ? "" : column.afterRank())
+                    .addValue("afterId" + i, fromTop ? "" : column.afterId());
+            values.append(i == 0 ? "" : ", ")
+                    .append("(").append(i)
+                    .append(", CAST(:status").append(i).append(" AS text)")
+                    .append(", CAST(:afterRank").append(i).append(" AS text)")
+                    .append(", CAST(:afterId").append(i).append(" AS text))");
+        }
+        // The lateral subquery runs once per column: a range scan of idx_tasks_project_status_rank starting at
+        // the column's seek position and stopping after limit rows, so a page reads limit rows per column
+        // whatever the column's size
+        String sql = "SELECT b.* FROM (VALUES " + values + ") AS c(position, status, after_rank, after_id)" +
+                " CROSS JOIN LATERAL (SELECT " + selectList(fields) + ", t.board_rank FROM tasks t" +
+                " WHERE t.project_id = :projectId AND t.status = c.status" +
+                " AND (t.board_rank, t.id) > (c.after_rank, c.after_id)" + filterClause(filter, params) +
+                " ORDER BY t.board_rank, t.id LIMIT :limit) b" +
+                " ORDER BY c.position, b.board_rank, b.id";
+        RowMapper<TaskRow> rowMapper = rowMapper(fields);
+        return jdbcTemplate.query(sql, params,
+                (rs, rowNum) -> new TaskBoardCard(rowMapper.mapRow(rs, rowNum), rs.getString("board_rank")));
+    }
+
+    @Override
+    public Optional<String> findLastBoardRank(String projectId, Status status) {
+        // ORDER BY ... LIMIT 1 rather than max(): one step from the end of idx_tasks_project_status_rank
+        String sql = "SELECT t.board_rank FROM tasks t WHERE t.project_id = :projectId AND t.status = :status" +
+                " AND t.board_rank IS NOT NULL ORDER BY t.board_rank DESC LIMIT 1";
+        return jdbcTemplate.queryForList(sql, boardColumn(projectId, status), String.class).stream().findFirst();
+    }
+
+    @Override
+    public Optional<String> findNextBoardRank(String projectId, Status status, String afterRank, String excludeId) {
+        MapSqlParameterSource params = boardColumn(projectId, status).addValue("excludeId", excludeId);
+        String seek = "";
+        if (afterRank != null) {
+            seek = " AND t.board_rank > :afterRank";
+            params.addValue("afterRank", afterRank);
+        }
+        String sql = "SELECT t.board_rank FROM tasks t WHERE t.project_id = :projectId AND t.status = :status" +
+                seek + " AND t.id <> :excludeId ORDER BY t.board_rank LIMIT 1";
+        return jdbcTemplate.queryForList(sql, params, String.class).stream().findFirst();
+    }
+
+    @Override
+    public void updateBoardRank(String id, String boardRank) {
+        jdbcTemplate.update("UPDATE tasks SET board_rank = :boardRank WHERE id = :id",
+                new MapSqlParameterSource("id", id).addValue("boardRank", boardRank));
+    }
+
+    @Override
+    public List<BoardCardRank> findBoardColumnRanks(String projectId, Status status) {
+        // Index-only walk of idx_tasks_project_status_rank
+        String sql = "SELECT t.id, t.board_rank FROM tasks t WHERE t.project_id = :projectId AND t.status = :status" +
+                " AND t.board_rank IS NOT NULL ORDER BY t.board_rank, t.id";
+        return jdbcTemplate.query(sql, boardColumn(projectId, status),
+                (rs, rowNum) -> new BoardCardRank(rs.getString("id"), rs.getString("board_rank")));
+    }
+
+    @Override
+    public void updateBoardRanks(List<String> ids, List<String> boardRanks) {
+        MapSqlParameterSource[] batch = new MapSqlParameterSource[ids.size()];
+        for (int i = 0; i < ids.size(); i++) {
+            batch[i] = new MapSqlParameterSource("id", ids.get(i)).addValue("boardRank", boardRanks.get(i));
+        }
+        jdbcTemplate.batchUpdate("UPDATE tasks SET board_rank = :boardRank WHERE id = :id", batch);
+    }
+
+    @Override
+    public void lockBoardColumnShared(String projectId, Status status) {
+        // Two-int key space, separate from the single bigint keys the schedulers lock on
+        jdbcTemplate.queryForList("SELECT 1 FROM pg_advisory_xact_lock_shared(hashtext(:projectId), hashtext(:status))",
+                boardColumn(projectId, status));
+    }
+
+    @Override
+    public boolean tryLockBoardColumn(String projectId, Status status) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(hashtext(:projectId), hashtext(:status))",
+                boardColumn(projectId, status), Boolean.class));
+    }
+
+    @Override
+    public List<TaskRow> findReminderCandidates(ReminderKind kind, Status status, OffsetDateTime from,
+                                                OffsetDateTime until, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("status", status.name())
+                .addValue("from", from)
+                .addValue("until", until)
+                .addValue("limit", limit);
+        // Equality on status plus a range on due_date is one contiguous slice of the kind's partial index
+        // (idx_tasks_due_soon_pending / idx_tasks_overdue_pending), read in index order. The literal IS NULL on
+        // the reminded column is what lets the planner pick it; reminded rows are not in it at all
+        String sql = "SELECT " + BASE_COLUMNS + " FROM tasks t WHERE t.status = :status" +
+                " AND t.due_date > :from AND t.due_date <= :until AND t.assigned_to_auth_id IS NOT NULL" +
+                " AND t." + remindedColumn(kind) + " IS NULL ORDER BY t.due_date ASC, t.id ASC LIMIT :limit";
+        return jdbcTemplate.query(sql, params, rowMapper(Set.of()));
+    }
+
+    @Override
+    public List<TaskRow> lockReminderCandidates(ReminderKind kind, List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String sql = "SELECT " + BASE_COLUMNS + " FROM tasks t WHERE t.id IN (:ids)" +
+                " AND t." + remindedColumn(kind) + " IS NULL ORDER BY t.id FOR UPDATE SKIP LOCKED";
+        return jdbcTemplate.query(sql, new MapSqlParameterSource("ids", ids), rowMapper(Set.of()));
+    }
+
+    @Override
+    public void markReminded(ReminderKind kind, List<String> ids, OffsetDateTime remindedAt) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        // No version bump: a reminder is bookkeeping, not an edit a concurrent writer should conflict with
+        jdbcTemplate.update("UPDATE tasks SET " + remindedColumn(kind) + " = :remindedAt WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", ids).addValue("remindedAt", remindedAt));
+    }
+
+    private static String remindedColumn(ReminderKind kind) {
+        return switch (kind) {
+            case DUE_SOON -> "due_soon_reminded_at";
+            case OVERDUE -> "overdue_reminded_at";
+        };
+    }
+
+    @Override
+    public List<TaskSearchHit> searchRows(List<String> projectIds, String query, Set<TaskField> fields,
+                                          Float afterRank, String afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("projectIds", projectIds)
+                .addValue("query", query)
+                .addValue("limit", limit);
+        String seek = "";
+        if (afterId != null && afterRank != null) {
+            seek = " AND (ts_rank(t.search_vector, q) < :rank OR (ts_rank(t.search_vector, q) = :rank AND t.id > :id))";
+            params.addValue("rank", afterRank).addValue("id", afterId);
+        }
+        // websearch_to_tsquery accepts user input as typed ("quoted phrases", or, -exclusions) and never errors
+        String sql = "SELECT " + selectList(fields) + ", ts_rank(t.search_vector, q) AS rank" +
+                " FROM tasks t, websearch_to_tsquery('english', :query) q" +
+                " WHERE t.project_id IN (:projectIds) AND t.search_vector @@ q" + seek +
+                " ORDER BY rank DESC, t.id ASC LIMIT :limit";
+        RowMapper<TaskRow> rowMapper = rowMapper(fields);
+        return jdbcTemplate.query(sql, params,
+                (rs, rowNum) -> new TaskSearchHit(rowMapper.mapRow(rs, rowNum), rs.getFloat("rank")));
+    }
+
+    @Override
+    public List<TaskStatusChange> updateStatus(String projectId, TaskSelection selection, Status status, String rankBase) {
+        MapSqlParameterSource params = new MapSqlParameterSource("projectId", projectId)
+                .addValue("newStatus", status.name())
+                .addValue("rankBase", rankBase);
+        // The locked sub-select hands back each row's previous status so callers can adjust the counters.
+        // ARCHIVED tasks are frozen, same rule as the single-task status change. FOR UPDATE cannot sit next to
+        // a window function, hence the extra level for the position. Hex digits are valid rank digits; the
+        // trailing 'V' keeps a key from ending in '0'.
+        String sql = "UPDATE tasks t SET status = :newStatus," +
+                " board_rank = :rankBase || lpad(to_hex(prev.position), 8, '0') || 'V', " + VERSION_BUMP +
+                " FROM (SELECT locked.id, locked.status, ROW_NUMBER() OVER (ORDER BY locked.board_rank, locked.id) AS position" +
+                " FROM (SELECT t.id, t.status, t.board_rank FROM tasks t WHERE t.project_id = :projectId" + selectionFilter(selection, params) +
+                " AND t.status <> 'ARCHIVED' AND t.status <> :newStatus FOR UPDATE) locked) prev" +
+                " WHERE t.id = prev.id" +
+                " RETURNING " + BASE_COLUMNS + ", prev.status AS previous_status";
+        RowMapper<TaskRow> rowMapper = rowMapper(Set.of());
+        return jdbcTemplate.query(sql, params, (rs, rowNum) ->
+                new TaskStatusChange(rowMapper.mapRow(rs, rowNum), Status.valueOf(rs.getString("previous_status"))));
+    }
+
+    @Override
+    public List<TaskAssigneeChange> updateAssignee(String projectId, TaskSelection selection, String assignedToAuthId) {
+        List<String> terminal = Arrays.stream(Status.values())
+                .filter(Status::isTerminal)
+                .map(Status::name)
+                .toList();
+        MapSqlParameterSource params = new MapSqlParameterSource("projectId", projectId)
+                .addValue("assignee", assignedToAuthId)
+                .addValue("terminal", terminal);
+        // The locked sub-select hands back each row's previous assignee for the activity log.
+        // A new assignee has not been reminded about anything yet.
+        String sql = "UPDATE tasks t SET assigned_to_auth_id = :assignee," +
+                " due_soon_reminded_at = NULL, overdue_reminded_at = NULL, " + VERSION_BUMP +
+                " FROM (SELECT t.id, t.assigned_to_auth_id FROM tasks t WHERE t.project_id = :projectId" +
+                selectionFilter(selection, params) +
+                " AND t.status NOT IN (:terminal) AND t.assigned_to_auth_id IS DISTINCT FROM :assignee FOR UPDATE) prev" +
+                " WHERE t.id = prev.id" +
+                " RETURNING " + BASE_COLUMNS + ", prev.assigned_to_auth_id AS previous_assignee";
+        RowMapper<TaskRow> rowMapper = rowMapper(Set.of());
+        return jdbcTemplate.query(sql, params, (rs, rowNum) ->
+                new TaskAssigneeChange(rowMapper.mapRow(rs, rowNum), rs.getString("previous_assignee")));
+    }
+
+    @Override
+    public List<DeletedTask> deleteSubtree(TaskPathView root) {
+        String sql = "DELETE FROM tasks t WHERE t.id = :rootId OR t.path LIKE :pattern" +
+                " RETURNING t.id, t.project_id, t.status";
+        MapSqlParameterSource params = new MapSqlParameterSource("rootId", root.id())
+                .addValue("pattern", root.descendantPattern());
+        return jdbcTemplate.query(sql, params, DELETED_TASK);
+    }
+
+    @Override
+    public List<DeletedTask> deleteByIds(List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String sql = "DELETE FROM tasks t WHERE t.id IN (:ids) RETURNING t.id, t.project_id, t.status";
+        return jdbcTemplate.query(sql, new MapSqlParameterSource("ids", ids), DELETED_TASK);
+    }
+
+    @Override
+    public List<TaskPathView> lockPaths(List<String> ids) {
+        String sql = "SELECT t.id, t.project_id, t.path, t.depth FROM tasks t WHERE t.id IN (:ids) ORDER BY t.id FOR UPDATE";
+        return jdbcTemplate.query(sql, new MapSqlParameterSource("ids", ids), (rs, rowNum) -> new TaskPathView(
+                rs.getString("id"), rs.getString("project_id"), rs.getString("path"), rs.getInt("depth")));
+    }
+
+    @Override
+    public List<TaskPathView> lockPathsShared(Collection<String> ids) {
+        // Rows are locked in the sorted order, so ancestors are locked before their descendants like moveTask does
+        String sql = "SELECT t.id, t.project_id, t.path, t.depth FROM tasks t WHERE t.id IN (:ids)" +
+                " ORDER BY t.depth, t.id FOR SHARE";
+        return jdbcTemplate.query(sql, new MapSqlParameterSource("ids", ids), (rs, rowNum) -> new TaskPathView(
+                rs.getString("id"), rs.getString("project_id"), rs.getString("path"), rs.getInt("depth")));
+    }
+
+    @Override
+    public int moveSubtree(TaskPathView task, String newParentId, String newPath, int newDepth) {
+        // Every row in the subtree starts with the task's old path; swap that prefix and shift the depth
+        String sql = "UPDATE tasks t SET path = :newPath || substr(t.path, :oldPathLength + 1)," +
+                " depth = t.depth + :depthDelta," +
+                " parent_id = CASE WHEN t.id = :taskId THEN CAST(:newParentId AS varchar) ELSE t.parent_id END, " +
+                VERSION_BUMP +
+                " WHERE t.id = :taskId OR t.path LIKE :pattern";
+        MapSqlParameterSource params = new MapSqlParameterSource("taskId", task.id())
+                .addValue("newPath", newPath)
+                .addValue("oldPathLength", task.path().length())
+                .addValue("depthDelta", newDepth - task.depth())
+                .addValue("newParentId", newParentId)
+                .addValue("pattern", task.descendantPattern());
+        int moved = jdbcTemplate.update(sql, params);
+        // Archived descendants keep following the tree so later subtree lookups still find them
+        jdbcTemplate.update("UPDATE tasks_archive t SET path = :newPath || substr(t.path, :oldPathLength + 1)," +
+                " depth = t.depth + :depthDelta WHERE t.path LIKE :pattern", params);
+        return moved;
+    }
+
+    @Override
+    public List<TaskRow> findArchiveCandidates(OffsetDateTime cutoff, OffsetDateTime afterUpdatedAt, String afterId,
+                                               int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("terminal", terminalStatuses())
+                .addValue("cutoff", cutoff)
+                .addValue("limit", limit);
+        String seek = "";
+        if (afterId != null) {
+            seek = " AND (t.updated_at, t.id) > (:afterUpdatedAt, :afterId)";
+            params.addValue("afterUpdatedAt", afterUpdatedAt).addValue("afterId", afterId);
+        }
+        // Walks idx_tasks_terminal_updated in order
+        String sql = "SELECT " + BASE_COLUMNS + " FROM tasks t WHERE t.status IN (:terminal) AND t.updated_at < :cutoff" +
+                seek + " AND NOT EXISTS (SELECT 1 FROM tasks k WHERE k.parent_id = t.id)" +
+                " ORDER BY t.updated_at, t.id LIMIT :limit";
+        return jdbcTemplate.query(sql, params, rowMapper(Set.of()));
+    }
+
+    @Override
+    public int archiveTasks(List<String> ids, OffsetDateTime cutoff) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids)
+                .addValue("terminal", terminalStatuses())
+                .addValue("cutoff", cutoff);
+        // One statement per chunk: the DELETE ... RETURNING feeds the INSERT, so a task is never in both tables
+        // or in neither. The candidate conditions are checked again under the row lock; SKIP LOCKED leaves rows
+        // a request is changing right now for a later run. A child inserted under a candidate meanwhile makes
+        // the parent_id FK fail the chunk.
+        String sql = "WITH moved AS (" +
+                " DELETE FROM tasks t WHERE t.id IN (" +
+                " SELECT c.id FROM tasks c WHERE c.id IN (:ids) AND c.status IN (:terminal) AND c.updated_at < :cutoff" +
+                " AND NOT EXISTS (SELECT 1 FROM tasks k WHERE k.parent_id = c.id)" +
+                " FOR UPDATE SKIP LOCKED)" +
+                " RETURNING " + ARCHIVE_COLUMNS + ")" +
+                " INSERT INTO tasks_archive (" + ARCHIVE_COLUMNS + ") SELECT " + ARCHIVE_COLUMNS + " FROM moved";
+        return jdbcTemplate.update(sql, params);
+    }
+
+    private static List<String> terminalStatuses() {
+        return Arrays.stream(Status.values())
+                .filter(Status::isTerminal)
+                .map(Status::name)
+                .toList();
+    }
+
+    @Override
+    public Optional<TaskPathView> findArchivedPathById(String id) {
+        String sql = "SELECT t.id, t.project_id, t.path, t.depth FROM tasks_archive t WHERE t.id = :id";
+        return jdbcTemplate.query(sql, new MapSqlParameterSource("id", id), (rs, rowNum) -> new TaskPathView(
+                rs.getString("id"), rs.getString("project_id"), rs.getString("path"), rs.getInt("depth")))
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public List<TaskRow> findArchivedSubtree(String rootId, String pattern, int maxDepth) {
+        String sql = "SELECT " + BASE_COLUMNS + ", t.description, t.tags, t.attributes FROM tasks_archive t" +
+                " WHERE t.id = :rootId OR (t.path LIKE :pattern AND t.depth <= :maxDepth)" +
+                " ORDER BY t.depth, t.created_at";
+        MapSqlParameterSource params = new MapSqlParameterSource("rootId", rootId)
+                .addValue("pattern", pattern)
+                .addValue("maxDepth", maxDepth);
+        return jdbcTemplate.query(sql, params, rowMapper(EnumSet.of(TaskField.DESCRIPTION, TaskField.TAGS, TaskField.ATTRIBUTES)));
+    }
+
+    @Override
+    public List<DeletedTask> deleteArchivedDescendants(TaskPathView root) {
+        String sql = "DELETE FROM tasks_archive t WHERE t.path LIKE :pattern RETURNING t.id, t.project_id, t.status";
+        return jdbcTemplate.query(sql, new MapSqlParameterSource("pattern", root.descendantPattern()), DELETED_TASK);
+    }
+
+    private static MapSqlParameterSource boardColumn(String projectId, Status status) {
+        return new MapSqlParameterSource("projectId", projectId).addValue("status", status.name());
+    }
+
+    // && (overlap) and @> (contains) are the operators the GIN indexes on tags and attributes support
+    private String filterClause(TaskFilter filter, MapSqlParameterSource params) {
+        StringBuilder where = new StringBuilder();
+        if (!filter.tags().isEmpty()) {
+            where.append(filter.matchAllTags()
+                    ? " AND t.tags @> ARRAY[:tags]::text[]"
+                    : " AND t.tags && ARRAY[:tags]::text[]");
+            params.addValue("tags", filter.tags());
+        }
+        if (filter.attributes() != null) {
+            where.append(" AND t.attributes @> CAST(:attributes AS jsonb)");
+            params.addValue("attributes", attributeContainment(filter.attributes()));
+        }
+        return where.toString();
+    }
+
+    private String attributeContainment(String json) {
+        try {
+            JsonNode node = objectMapper.readTree(json);
+            if (node == null || !node.isObject()) {
+                throw new BadRequestException("attributes filter must be a JSON object");
+            }
+            return objectMapper.writeValueAsString(node);
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("attributes filter is not valid JSON");
+        }
+    }
+
+    private String selectionFilter(TaskSelection selection, MapSqlParameterSource params) {
+        StringBuilder where = new StringBuilder();
+        if (selection.ids() != null && !selection.ids().isEmpty()) {
+            where.append(" AND t.id IN (:ids)");
+            params.addValue("ids", selection.ids());
+        }
+        if (selection.status() != null) {
+            where.append(" AND t.status = :status");
+            params.addValue("status", selection.status().name());
+        }
+        if (selection.assignedToAuthId() != null) {
+            where.append(" AND t.assigned_to_auth_id = :assignedTo");
+            params.addValue("assignedTo", selection.assignedToAuthId());
+        }
+        return where.toString();
+    }
+
+    private Page<TaskRow> findPage(String where, MapSqlParameterSource params, Set<TaskField> fields, Pageable pageable) {
+        String sql = "SELECT " + selectList(fields) + " FROM tasks t WHERE " + where + orderBy(pageable.getSort());
+        if (pageable.isPaged()) {
+            sql += " LIMIT :limit OFFSET :offset";
+            params.addValue("limit", pageable.getPageSize()).addValue("offset", pageable.getOffset());
+        }
+        List<TaskRow> rows = jdbcTemplate.query(sql, params, rowMapper(fields));
+        return PageableExecutionUtils.getPage(rows, pageable,
+                () -> jdbcTemplate.queryForObject("SELECT count(*) FROM tasks t WHERE " + where, params, Long.class));
+    }
+
+    static String selectList(Set<TaskField> fields) {
+        if (fields.isEmpty()) {
+            return BASE_COLUMNS;
+        }
+        return BASE_COLUMNS + ", " + fields.stream()
+                .map(field -> "t." + field.column())
+                .collect(Collectors.joining(", "));
+    }
+
+    private String orderBy(Sort sort) {
+        List<String> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            String column = SORTABLE.get(order.getProperty());
+            if (column == null) {
+                throw new BadRequestException("Cannot sort by " + order.getProperty());
+            }
+            orders.add(column + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        // Stable tiebreaker so OFFSET pages never repeat or skip rows
+        orders.add("t.id ASC");
+        return " ORDER BY " + String.join(", ", orders);
+    }
+
+    RowMapper<TaskRow> rowMapper(Set<TaskField> fields) {
+        boolean withDescription = fields.contains(TaskField.DESCRIPTION);
+        boolean withTags = fields.contains(TaskField.TAGS);
+        boolean withAttributes = fields.contains(TaskField.ATTRIBUTES);
+        return (rs, rowNum) -> new TaskRow(
+                rs.getString("id"),
+                rs.getString("project_id"),
+                rs.getString("title"),
+                Status.valueOf(rs.getString("status")),
+                Priority.valueOf(rs.getString("priority")),
+                rs.getObject("due_date", OffsetDateTime.class),
+                rs.getString("created_by_auth_id"),
+                rs.getString("assigned_to_auth_id"),
+                rs.getString("parent_id"),
+                rs.getObject("created_at", OffsetDateTime.class),
+                rs.getObject("updated_at", OffsetDateTime.class),
+                withDescription ? rs.getString("description") : null,
+                withTags ? readTags(rs) : null,
+                withAttributes ? readAttributes(rs) : null);
+    }
+
+    private List<String> readTags(ResultSet rs) throws SQLException {
+        Array array = rs.getArray("tags");
+        if (array == null) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(Arrays.asList((String[]) array.getArray()));
+    }
+
+    private Map<String, Object> readAttributes(ResultSet rs) throws SQLException {
+        String json = rs.getString("attributes");
+        if (json == null) {
+            return new HashMap<>();
+        }
+        try {
+            return objectMapper.readValue(json, ATTRIBUTES_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new SQLException("Unreadable attributes for task " + rs.getString("id"), e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.task.task_service.repository;
+
+import com.task.task_service.model.TaskStatusCounter;
+import com.task.task_service.model.TaskStatusCounterId;
+import com.task.task_service.repository.projection.StatusCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface TaskStatusCounterRepository extends JpaRepository<TaskStatusCounter, TaskStatusCounterId> {
+
+    @Modifying
+    @Query(value = "INSERT INTO task_status_counters (project_id, status, stripe, count)" +
+            " VALUES (:projectId, :status, :stripe, :delta)" +
+            " ON CONFLICT (project_id, status, stripe) DO UPDATE SET count = task_status_counters.count + EXCLUDED.count",
+            nativeQuery = true)
+    void add(@Param("projectId") String projectId, @Param("status") String status,
+             @Param("stripe") int stripe, @Param("delta") long delta);
+
+    // Served from the primary key index: (project_id, status, stripe)
+    @Query("SELECT new com.task.task_service.repository.projection.StatusCount(c.projectId, c.status, SUM(c.count))" +
+            " FROM TaskStatusCounter c WHERE c.projectId IN :projectIds GROUP BY c.projectId, c.status")
+    List<StatusCount> sumByProjectIdIn(@Param("projectIds") List<String> projectIds);
+}
@@ -0,0 +1,5 @@
+package com.task.task_service.repository.projection;
+
+// A card's id and its rank key, as the rebalance reads a column
+public record BoardCardRank(String id, String boardRank) {
+}
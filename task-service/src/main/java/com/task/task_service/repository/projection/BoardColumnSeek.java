@@ -0,0 +1,8 @@
+package com.task.task_service.repository.projection;
+
+import com.task.task_service.model.Status;
+
+// One board column and where to resume it: the (board_rank, id) of the last card the client has.
+// A null afterId starts the column from the top.
+public record BoardColumnSeek(Status status, String afterRank, String afterId) {
+}
@@ -0,0 +1,6 @@
+package com.task.task_service.repository.projection;
+
+import com.task.task_service.model.Status;
+
+public record StatusCount(String projectId, Status status, long count) {
+}
@@ -0,0 +1,17 @@
+package com.task.task_service.repository.projection;
+
+import com.task.task_service.model.TaskActivityAction;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+// One row of task_activity. changes maps each field to {"from": old, "to": new}; id is null until written.
+public record TaskActivityEntry(
+        Long id,
+        String taskId,
+        String projectId,
+        TaskActivityAction action,
+        Map<String, Object> changes,
+        OffsetDateTime occurredAt
+) {
+}
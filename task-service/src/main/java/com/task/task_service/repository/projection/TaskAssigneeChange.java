@@ -0,0 +1,5 @@
+package com.task.task_service.repository.projection;
+
+// Row returned by a bulk reassignment together with the assignee it had before
+public record TaskAssigneeChange(TaskRow row, String previousAssignee) {
+}
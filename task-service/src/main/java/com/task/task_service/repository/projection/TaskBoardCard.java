@@ -0,0 +1,5 @@
+package com.task.task_service.repository.projection;
+
+// A board row plus its position in the column, which the column's next cursor is built from
+public record TaskBoardCard(TaskRow row, String boardRank) {
+}
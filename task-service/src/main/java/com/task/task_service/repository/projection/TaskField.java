@@ -0,0 +1,44 @@
+package com.task.task_service.repository.projection;
+
+import com.task.task_service.exception.BadRequestException;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+// Optional heavy columns a list view can opt into with ?fields=. Everything else is always selected.
+public enum TaskField {
+    DESCRIPTION("description"),
+    TAGS("tags"),
+    ATTRIBUTES("attributes");
+
+    private final String column;
+
+    TaskField(String column) {
+        this.column = column;
+    }
+
+    public String column() {
+        return column;
+    }
+
+    // null keeps the legacy behaviour (every column); an empty value selects only the summary columns
+    public static Set<TaskField> parse(String fields) {
+        if (fields == null || fields.equalsIgnoreCase("all")) {
+            return EnumSet.allOf(TaskField.class);
+        }
+        Set<TaskField> selected = EnumSet.noneOf(TaskField.class);
+        Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .forEach(name -> {
+                    try {
+                        selected.add(TaskField.valueOf(name.toUpperCase(Locale.ROOT)));
+                    } catch (IllegalArgumentException e) {
+                        throw new BadRequestException("Unknown field: " + name);
+                    }
+                });
+        return selected;
+    }
+}
@@ -0,0 +1,32 @@
+package com.task.task_service.repository.projection;
+
+import com.task.task_service.dto.TaskListFilter;
+import com.task.task_service.exception.BadRequestException;
+
+import java.util.List;
+
+// Validated tag/attribute filter for list queries. Both parts are answered by GIN indexes (see schema.sql).
+public record TaskFilter(List<String> tags, boolean matchAllTags, String attributes) {
+    public static final TaskFilter NONE = new TaskFilter(List.of(), false, null);
+
+    public static TaskFilter from(TaskListFilter filter) {
+        if (filter == null) {
+            return NONE;
+        }
+        List<String> tags = filter.getTags() == null ? List.of() : filter.getTags().stream()
+                .map(String::trim)
+                .filter(tag -> !tag.isEmpty())
+                .distinct()
+                .toList();
+        boolean matchAll;
+        if (filter.getTagMatch() == null || filter.getTagMatch().equalsIgnoreCase("any")) {
+            matchAll = false;
+        } else if (filter.getTagMatch().equalsIgnoreCase("all")) {
+            matchAll = true;
+        } else {
+            throw new BadRequestException("tagMatch must be 'any' or 'all'");
+        }
+        String attributes = filter.getAttributes() == null || filter.getAttributes().isBlank() ? null : filter.getAttributes();
+        return new TaskFilter(tags, matchAll, attributes);
+    }
+}
@@ -0,0 +1,27 @@
+package com.task.task_service.repository.projection;
+
+// Hierarchy position of a task. path lists the ancestor ids root-first, each followed by '/'
+// ("" for a top-level task), so every descendant's path starts with descendantPrefix().
+public record TaskPathView(String id, String projectId, String path, int depth) {
+    public String descendantPrefix() {
+        return path + id + "/";
+    }
+
+    // LIKE pattern for all descendants; ids are UUIDs, so they never contain % or _
+    public String descendantPattern() {
+        return descendantPrefix() + "%";
+    }
+
+    // Last id on the path, null for a top-level task
+    public String parentId() {
+        if (path.isEmpty()) {
+            return null;
+        }
+        int end = path.length() - 1;
+        return path.substring(path.lastIndexOf('/', end - 1) + 1, end);
+    }
+
+    public boolean isAncestorOf(TaskPathView other) {
+        return other.path().startsWith(descendantPrefix());
+    }
+}
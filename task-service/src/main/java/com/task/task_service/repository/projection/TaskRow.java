@@ -0,0 +1,27 @@
+package com.task.task_service.repository.projection;
+
+import com.task.task_service.model.Priority;
+import com.task.task_service.model.Status;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+// Read-only projection of a tasks row. description, tags and attributes are null unless requested.
+public record TaskRow(
+        String id,
+        String projectId,
+        String title,
+        Status status,
+        Priority priority,
+        OffsetDateTime dueDate,
+        String createdByAuthId,
+        String assignedToAuthId,
+        String parentId,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt,
+        String description,
+        List<String> tags,
+        Map<String, Object> attributes
+) {
+}
@@ -0,0 +1,5 @@
+package com.task.task_service.repository.projection;
+
+// Search result row with its ts_rank, which is part of the keyset cursor
+public record TaskSearchHit(TaskRow row, float rank) {
+}
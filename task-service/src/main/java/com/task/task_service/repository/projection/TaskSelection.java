@@ -0,0 +1,12 @@
+package com.task.task_service.repository.projection;
+
+import com.task.task_service.model.Status;
+
+import java.util.List;
+
+// Set of tasks inside one project targeted by a bulk update: explicit ids, filter values, or both
+public record TaskSelection(List<String> ids, Status status, String assignedToAuthId) {
+    public boolean isEmpty() {
+        return (ids == null || ids.isEmpty()) && status == null && assignedToAuthId == null;
+    }
+}
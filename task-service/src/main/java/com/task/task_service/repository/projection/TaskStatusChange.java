@@ -0,0 +1,7 @@
+package com.task.task_service.repository.projection;
+
+import com.task.task_service.model.Status;
+
+// Row returned by a bulk status update together with the status it had before
+public record TaskStatusChange(TaskRow row, Status previousStatus) {
+}
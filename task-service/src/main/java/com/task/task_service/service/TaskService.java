@@ -3,19 +3,31 @@ package com.task.task_service.service;
 import com.task.task_service.dto.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 
 public interface TaskService {
     TaskResponse createTask(CreateTaskRequest request, String projectId, String authId);
+    BulkCreateTaskResponse bulkCreateTasks(BulkCreateTaskRequest request, String projectId, String authId);
+    BulkUpdateResponse bulkChangeStatus(String projectId, BulkStatusChangeRequest request);
+    BulkUpdateResponse bulkAssign(String projectId, BulkAssignRequest request);
     TaskResponse updateTask(String taskId, UpdateTaskRequest request);
     TaskResponse assignTask(String taskId, AssignTaskRequest request);
     TaskResponse changeTaskStatus(String taskId, ChangeTaskStatusRequest request);
-    TaskResponse getTaskById(String taskId);
-    @Transactional(readOnly = true)
-    Page<TaskListResponse> getTasksByProject(String projectId, int page, int size);
-    Void deleteTask(String taskId);
-    Page<TaskResponse> getTasksByOrg(List<String> projectIds, Pageable pageable);
+    TaskResponse reorderTask(String projectId, String taskId, ReorderTaskRequest request);
+    TaskResponse getTaskById(String taskId, Integer depth);
+    Page<TaskListResponse> getTasksByProject(String projectId, int page, int size, String fields, TaskListFilter filter);
+    CursorPageResponse<TaskListResponse> getTasksByProjectAfter(String projectId, String after, int size, String fields, TaskListFilter filter);
+    TaskBoardResponse getBoard(String projectId, List<String> statuses, List<String> after, int limit, String fields, TaskListFilter filter);
+    CursorPageResponse<TaskListResponse> searchTasksInProject(String projectId, String query, String after, int size, String fields);
+    CursorPageResponse<TaskListResponse> searchTasks(List<String> projectIds, String query, String after, int size, String fields);
+    CursorPageResponse<TaskActivityResponse> getTaskActivity(String projectId, String taskId, String after, int size);
+    CursorPageResponse<TaskActivityResponse> getProjectActivity(String projectId, String after, int size);
+    TaskDeletionResponse deleteTask(String taskId);
+    TaskResponse moveTask(String projectId, String taskId, MoveTaskRequest request);
+    List<TaskBreadcrumbItem> getAncestors(String taskId);
+    TaskSubtreeSummary getSubtreeSummary(String taskId);
+    List<ProjectTaskCounts> getTaskCounts(List<String> projectIds);
+    Page<TaskResponse> getTasksByOrg(List<String> projectIds, Pageable pageable, String fields, TaskListFilter filter);
 }
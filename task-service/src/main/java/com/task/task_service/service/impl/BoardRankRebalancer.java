@@ -0,0 +1,121 @@
+package com.task.task_service.service.impl;
+
+import com.task.task_service.model.Status;
+import com.task.task_service.repository.TaskRepository;
+import com.task.task_service.repository.projection.BoardCardRank;
+import com.task.task_service.util.BoardRank;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Gives a board column fresh, evenly spaced rank keys once one of its keys has grown past max-length
+// (repeated inserts at the same spot add a digit every few moves). Columns are queued by the write that
+// produced the long key, so a column is only ever rewritten when it needs it. The queue is per instance
+// and in memory: a column queued just before a restart is queued again by its next long key.
+//
+// The rewrite goes batch-size cards per transaction, each holding the column lock only for its own batch,
+// so moves wait for one batch rather than the whole column. Every batch is planned from the column as it
+// is at that moment, against the evenly spaced keys for its current order, so a move made between two
+// batches is taken into account rather than overtaken. Cards whose key goes down are rewritten top first,
+// then cards whose key goes up bottom first: in that order every batch leaves the column sorted.
+@Component
+@Slf4j
+public class BoardRankRebalancer {
+    // A column reordered faster than it can be rewritten is left for the next run instead of being chased
+    private static final int MAX_BATCHES_PER_RUN = 1000;
+    private static final int LOCK_BUSY = -1;
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxLength;
+    private final int batchSize;
+    private final Set<BoardColumn> pending = ConcurrentHashMap.newKeySet();
+
+    public BoardRankRebalancer(TaskRepository taskRepository,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${app.board-rank.max-length:24}") int maxLength,
+                               @Value("${app.board-rank.rebalance-batch-size:500}") int batchSize) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.maxLength = maxLength;
+        this.batchSize = batchSize;
+    }
+
+    // Called with the length of every rank a write is about to store
+    public void checkLength(String projectId, Status status, int rankLength) {
+        if (rankLength > maxLength) {
+            pending.add(new BoardColumn(projectId, status));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.board-rank.rebalance-interval-ms:10000}")
+    public void rebalancePending() {
+        for (BoardColumn column : List.copyOf(pending)) {
+            pending.remove(column);
+            try {
+                if (!rebalance(column)) {
+                    // Moves in flight hold the column lock, or the column kept changing; try again on the next run
+                    pending.add(column);
+                }
+            } catch (RuntimeException e) {
+                // Finished batches are committed and leave the column sorted; the next run carries on from there
+                pending.add(column);
+                log.warn("Rebalancing board column {} {} failed, will retry: {}", column.projectId(), column.status(), e.getMessage());
+            }
+        }
+    }
+
+    private boolean rebalance(BoardColumn column) {
+        int rewritten = 0;
+        for (int batches = 0; batches < MAX_BATCHES_PER_RUN; batches++) {
+            Integer batch = transactionTemplate.execute(status -> rebalanceBatch(column));
+            if (batch == null || batch == LOCK_BUSY) {
+                return false;
+            }
+            if (batch == 0) {
+                log.info("Rebalanced {} board ranks in project {} column {}", rewritten, column.projectId(), column.status());
+                return true;
+            }
+            rewritten += batch;
+        }
+        return false;
+    }
+
+    // Returns the number of cards rewritten, 0 once the column is evenly spaced
+    private int rebalanceBatch(BoardColumn column) {
+        if (!taskRepository.tryLockBoardColumn(column.projectId(), column.status())) {
+            return LOCK_BUSY;
+        }
+        List<BoardCardRank> cards = taskRepository.findBoardColumnRanks(column.projectId(), column.status());
+        List<String> targets = BoardRank.evenlySpaced(cards.size());
+        List<Integer> down = new ArrayList<>();
+        List<Integer> up = new ArrayList<>();
+        for (int i = 0; i < cards.size(); i++) {
+            int direction = targets.get(i).compareTo(cards.get(i).boardRank());
+            if (direction < 0) {
+                down.add(i);
+            } else if (direction > 0) {
+                up.add(i);
+            }
+        }
+        List<Integer> batch = !down.isEmpty()
+                ? down.subList(0, Math.min(batchSize, down.size()))
+                : up.subList(Math.max(0, up.size() - batchSize), up.size());
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        taskRepository.updateBoardRanks(batch.stream().map(i -> cards.get(i).id()).toList(),
+                batch.stream().map(targets::get).toList());
+        return batch.size();
+    }
+
+    private record BoardColumn(String projectId, Status status) {
+    }
+}
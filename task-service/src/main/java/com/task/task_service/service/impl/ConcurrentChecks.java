@@ -0,0 +1,63 @@
+package com.task.task_service.service.impl;
+
+import com.taskmanager.shared.datasource.ReplicaRoutingDataSource;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+// Runs independent validation steps (remote calls, existence checks) side by side on virtual threads.
+// The first failure cancels the remaining steps and is rethrown as-is, so a missing project is reported
+// as soon as project-service answers instead of after the user lookup as well. Workers inherit the caller's
+// observation, so their Feign calls stay in the request's trace.
+@Component
+public class ConcurrentChecks {
+    private final ExecutorService executor = ContextExecutorService.wrap(
+            Executors.newVirtualThreadPerTaskExecutor(), ContextSnapshotFactory.builder().build());
+
+    public void runAll(List<Runnable> checks) {
+        if (checks.size() == 1) {
+            checks.get(0).run();
+            return;
+        }
+        // Worker threads are outside the caller's transaction. Checks for a write read the primary, so they
+        // see what earlier requests just wrote rather than a replica that may lag behind.
+        boolean forWrite = TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        CompletionService<Void> completion = new ExecutorCompletionService<>(executor);
+        List<Future<Void>> futures = new ArrayList<>(checks.size());
+        checks.forEach(check -> futures.add(completion.submit(forWrite ? onPrimary(check) : check, null)));
+        try {
+            for (int i = 0; i < checks.size(); i++) {
+                completion.take().get();
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while validating", e);
+        }
+    }
+
+    private static Runnable onPrimary(Runnable check) {
+        return () -> ReplicaRoutingDataSource.onPrimary(() -> {
+            check.run();
+            return null;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,85 @@
+package com.task.task_service.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Keeps task_activity's monthly partitions (UTC months) in place: the current month plus months-ahead are
+// created up front, and months older than retention-months are detached and dropped. Dropping a partition
+// is a metadata change, so expiring history never runs a DELETE or leaves dead rows behind.
+@Component
+@Slf4j
+public class TaskActivityPartitionManager {
+    private static final String PARENT = "task_activity";
+    private static final Pattern PARTITION_NAME = Pattern.compile(PARENT + "_y(\\d{4})m(\\d{2})");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    public TaskActivityPartitionManager(JdbcTemplate jdbcTemplate,
+                                        @Value("${app.activity.months-ahead:2}") int monthsAhead,
+                                        @Value("${app.activity.retention-months:12}") int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${app.activity.maintenance-cron:0 0 3 * * *}", zone = "UTC")
+    public void maintain() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        try {
+            for (int i = 0; i <= monthsAhead; i++) {
+                create(current.plusMonths(i));
+            }
+            YearMonth oldestKept = current.minusMonths(retentionMonths);
+            for (String partition : partitions()) {
+                Matcher matcher = PARTITION_NAME.matcher(partition);
+                if (matcher.matches()
+                        && YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))).isBefore(oldestKept)) {
+                    drop(partition);
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("Task activity partition maintenance failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    private void create(YearMonth month) {
+        // IF NOT EXISTS makes concurrent instances and restarts harmless
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + name(month) + " PARTITION OF " + PARENT +
+                " FOR VALUES FROM ('" + month.atDay(1) + " 00:00:00+00') TO ('" + month.plusMonths(1).atDay(1) + " 00:00:00+00')");
+    }
+
+    private void drop(String partition) {
+        // CONCURRENTLY (PostgreSQL 14+) detaches without blocking writers to the current month
+        jdbcTemplate.execute("ALTER TABLE " + PARENT + " DETACH PARTITION " + partition + " CONCURRENTLY");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+        log.info("Dropped expired task activity partition {}", partition);
+    }
+
+    private List<String> partitions() {
+        return jdbcTemplate.queryForList("SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid" +
+                " WHERE i.inhparent = CAST(? AS regclass)", String.class, PARENT);
+    }
+
+    private static String name(YearMonth month) {
+        return String.format("%s_y%04dm%02d", PARENT, month.getYear(), month.getMonthValue());
+    }
+}
@@ -0,0 +1,144 @@
+package com.task.task_service.service.impl;
+
+import com.task.task_service.model.Task;
+import com.task.task_service.model.TaskActivityAction;
+import com.task.task_service.repository.TaskActivityRepository;
+import com.task.task_service.repository.projection.TaskActivityEntry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+// Records field-level diffs of task changes into task_activity off the request path. Entries are queued
+// once the change commits and written in multi-row batches every flush interval. If the queue is full the
+// caller writes its own entry, trading a little latency for never silently losing history. Entries still
+// queued when the process dies are lost; the task change itself is not affected.
+@Component
+@Slf4j
+public class TaskActivityWriter {
+    private final TaskActivityRepository activityRepository;
+    private final TransactionTemplate inlineTransaction;
+    private final BlockingQueue<TaskActivityEntry> queue;
+    private final int batchSize;
+
+    public TaskActivityWriter(TaskActivityRepository activityRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.activity.queue-capacity:10000}") int queueCapacity,
+                              @Value("${app.activity.batch-size:500}") int batchSize) {
+        this.activityRepository = activityRepository;
+        // afterCommit still sees the finished transaction's connection; the overflow write needs its own
+        this.inlineTransaction = new TransactionTemplate(transactionManager);
+        this.inlineTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+    }
+
+    // The fields the activity log tracks, taken before a change so record() can diff against it
+    public static Map<String, Object> snapshot(Task task) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("title", task.getTitle());
+        fields.put("description", task.getDescription());
+        fields.put("status", task.getStatus() != null ? task.getStatus().name() : null);
+        fields.put("priority", task.getPriority() != null ? task.getPriority().name() : null);
+        fields.put("dueDate", task.getDueDate());
+        fields.put("assignedToAuthId", task.getAssignedToAuthId());
+        fields.put("tags", task.getTags() != null ? new ArrayList<>(task.getTags()) : null);
+        fields.put("attributes", task.getAttributes() != null ? new LinkedHashMap<>(task.getAttributes()) : null);
+        return fields;
+    }
+
+    public void record(Task task, TaskActivityAction action, Map<String, Object> before) {
+        Map<String, Object> after = snapshot(task);
+        Map<String, Object> changes = new LinkedHashMap<>();
+        after.forEach((field, value) -> {
+            Object previous = before.get(field);
+            if (!Objects.equals(previous, value)) {
+                changes.put(field, change(previous, value));
+            }
+        });
+        if (changes.isEmpty()) {
+            return;
+        }
+        recordAll(List.of(new TaskActivityEntry(null, task.getId(), task.getProjectId(), action, changes,
+                OffsetDateTime.now())));
+    }
+
+    // One-field entry for the set-based updates, which change rows without loading the entities record() diffs
+    public static TaskActivityEntry fieldChange(String taskId, String projectId, TaskActivityAction action,
+                                                String field, Object from, Object to) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        changes.put(field, change(from, to));
+        return new TaskActivityEntry(null, taskId, projectId, action, changes, OffsetDateTime.now());
+    }
+
+    public void recordAll(List<TaskActivityEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        // Only committed changes make it into the history
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(entries);
+                }
+            });
+        } else {
+            enqueue(entries);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.activity.flush-interval-ms:200}")
+    public void flush() {
+        List<TaskActivityEntry> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            try {
+                activityRepository.insertAll(batch);
+            } catch (DataAccessException e) {
+                log.error("Dropping {} task activity entries: {}", batch.size(), e.getMessage());
+            }
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static Map<String, Object> change(Object from, Object to) {
+        Map<String, Object> change = new LinkedHashMap<>();
+        change.put("from", from);
+        change.put("to", to);
+        return change;
+    }
+
+    private void enqueue(List<TaskActivityEntry> entries) {
+        List<TaskActivityEntry> overflow = new ArrayList<>();
+        for (TaskActivityEntry entry : entries) {
+            if (!queue.offer(entry)) {
+                overflow.add(entry);
+            }
+        }
+        if (overflow.isEmpty()) {
+            return;
+        }
+        try {
+            inlineTransaction.executeWithoutResult(status -> activityRepository.insertAll(overflow));
+        } catch (DataAccessException e) {
+            log.error("Dropping {} task activity entries: {}", overflow.size(), e.getMessage());
+        }
+    }
+}
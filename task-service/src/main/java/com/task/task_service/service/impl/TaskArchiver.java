@@ -0,0 +1,90 @@
+package com.task.task_service.service.impl;
+
+import com.task.task_service.repository.TaskRepository;
+import com.task.task_service.repository.projection.TaskRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+// Moves DONE/ARCHIVED tasks untouched for min-age out of tasks into tasks_archive, chunk-size rows per
+// transaction, so the hot table and its indexes only grow with active work. Leaves go first; a parent
+// becomes eligible once its last child has moved, which is why a run makes passes over the candidates until
+// one moves nothing. A chunk that fails is logged and skipped for the rest of the pass, so one bad row does
+// not hold back everything queued behind it. Archived tasks stay readable by id, appear in their hot
+// ancestors' trees and keep counting towards the project's status totals.
+@Component
+@Slf4j
+public class TaskArchiver {
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration minAge;
+    private final int chunkSize;
+
+    public TaskArchiver(TaskRepository taskRepository,
+                        TransactionTemplate transactionTemplate,
+                        @Value("${app.archive.enabled:true}") boolean enabled,
+                        @Value("${app.archive.min-age:180d}") Duration minAge,
+                        @Value("${app.archive.chunk-size:500}") int chunkSize) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.minAge = minAge;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${app.archive.cron:0 30 2 * * *}", zone = "UTC")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+        OffsetDateTime cutoff = OffsetDateTime.now().minus(minAge);
+        long total = 0;
+        try {
+            long moved;
+            do {
+                moved = archivePass(cutoff);
+                total += moved;
+            } while (moved > 0);
+        } catch (RuntimeException e) {
+            // Finished chunks are committed; the rest is picked up by the next run
+            log.warn("Task archival stopped after {} tasks: {}", total, e.getMessage());
+            return;
+        }
+        if (total > 0) {
+            log.info("Archived {} tasks last updated before {}", total, cutoff);
+        }
+    }
+
+    private long archivePass(OffsetDateTime cutoff) {
+        long moved = 0;
+        OffsetDateTime afterUpdatedAt = null;
+        String afterId = null;
+        while (true) {
+            List<TaskRow> candidates = taskRepository.findArchiveCandidates(cutoff, afterUpdatedAt, afterId, chunkSize);
+            if (candidates.isEmpty()) {
+                return moved;
+            }
+            List<String> ids = candidates.stream().map(TaskRow::id).toList();
+            try {
+                Integer chunk = transactionTemplate.execute(status -> taskRepository.archiveTasks(ids, cutoff));
+                moved += chunk == null ? 0 : chunk;
+            } catch (DataAccessException e) {
+                log.warn("Skipping an archive chunk of {} tasks starting at {}: {}", ids.size(), ids.get(0), e.getMessage());
+            }
+            if (candidates.size() < chunkSize) {
+                return moved;
+            }
+            TaskRow last = candidates.get(candidates.size() - 1);
+            afterUpdatedAt = last.updatedAt();
+            afterId = last.id();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.task.task_service.service.impl;
+
+import com.task.task_service.dto.TaskResponse;
+import com.task.task_service.exception.BadRequestException;
+import com.task.task_service.exception.ResourceNotFoundException;
+import com.task.task_service.mapper.Mapper;
+import com.task.task_service.repository.TaskRepository;
+import com.task.task_service.repository.projection.TaskPathView;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+public class TaskHierarchyLoader {
+    private final TaskRepository taskRepository;
+
+    public TaskHierarchyLoader(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    // Loads the task and its descendants with one path-prefix range scan and assembles the tree in memory.
+    // A null depth means the full subtree; depth 0 returns only the task itself. The archiver moves leaves
+    // first, so a hot task can have archived descendants; they are merged into its tree from tasks_archive.
+    // Ids missing from the hot table are looked up in tasks_archive, which always holds an archived task's
+    // whole subtree.
+    public TaskResponse loadTree(String taskId, Integer depth) {
+        if (depth != null && depth < 0) {
+            throw new BadRequestException("depth must be zero or greater");
+        }
+        Optional<TaskPathView> hot = taskRepository.findPathById(taskId);
+        if (hot.isPresent()) {
+            int maxDepth = maxDepth(hot.get(), depth);
+            List<TaskResponse> rows = new ArrayList<>();
+            taskRepository.findSubtree(taskId, hot.get().descendantPattern(), maxDepth).forEach(task -> {
+                TaskResponse response = Mapper.toTaskresponse(task);
+                response.setParentId(task.getParentId());
+                rows.add(response);
+            });
+            if (maxDepth > hot.get().depth()) {
+                List<TaskResponse> archived = taskRepository.findArchivedSubtree(taskId, hot.get().descendantPattern(), maxDepth)
+                        .stream()
+                        .map(Mapper::toTaskresponse)
+                        .toList();
+                if (!archived.isEmpty()) {
+                    rows.addAll(archived);
+                    // Siblings from both tables in creation order, as each query returns them
+                    rows.sort(Comparator.comparing(TaskResponse::getCreatedAt,
+                            Comparator.nullsLast(Comparator.naturalOrder())));
+                }
+            }
+            return assemble(taskId, rows);
+        }
+        TaskPathView archived = taskRepository.findArchivedPathById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+        List<TaskResponse> rows = taskRepository.findArchivedSubtree(taskId, archived.descendantPattern(), maxDepth(archived, depth))
+                .stream()
+                .map(Mapper::toTaskresponse)
+                .toList();
+        return assemble(taskId, rows);
+    }
+
+    private static int maxDepth(TaskPathView position, Integer depth) {
+        return depth != null ? (int) Math.min(Integer.MAX_VALUE, (long) position.depth() + depth) : Integer.MAX_VALUE;
+    }
+
+    private static TaskResponse assemble(String taskId, List<TaskResponse> rows) {
+        Map<String, TaskResponse> byId = new HashMap<>();
+        TaskResponse root = null;
+        for (TaskResponse response : rows) {
+            response.setSubTasks(new ArrayList<>());
+            byId.put(response.getId(), response);
+        }
+        // Linked in a second pass: merged hot and archived rows are not ordered parents-first
+        for (TaskResponse response : rows) {
+            if (response.getId().equals(taskId)) {
+                root = response;
+                continue;
+            }
+            TaskResponse parent = byId.get(response.getParentId());
+            if (parent != null) {
+                parent.getSubTasks().add(response);
+            }
+        }
+        return root;
+    }
+}
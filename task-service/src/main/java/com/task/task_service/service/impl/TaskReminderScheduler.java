@@ -0,0 +1,163 @@
+package com.task.task_service.service.impl;
+
+import com.task.task_service.dto.TaskReminderEvent;
+import com.task.task_service.dto.TaskReminderItem;
+import com.task.task_service.dto.UserSummary;
+import com.task.task_service.feign.UserClient;
+import com.task.task_service.messaging.EventPublisher;
+import com.task.task_service.messaging.config.RabbitConfig;
+import com.task.task_service.model.ReminderKind;
+import com.task.task_service.model.Status;
+import com.task.task_service.repository.TaskRepository;
+import com.task.task_service.repository.projection.TaskRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Sends due-soon and overdue reminders for open, assigned tasks. Each task records when its assignee was
+// reminded of each kind, and changing the due date or the assignee clears it. A run therefore selects the
+// tasks due within lead-time (or overdue by at most overdue-max-age) that have no reminder of that kind yet,
+// in batches. Candidates are read and the assignees looked up in user-service outside any transaction; a
+// short transaction then claims the candidates that are still unreminded and unchanged and publishes one
+// event per assignee through the outbox. Instances running concurrently skip each other's locked rows.
+@Component
+@Slf4j
+public class TaskReminderScheduler {
+    private static final List<Status> OPEN_STATUSES = Arrays.stream(Status.values())
+            .filter(status -> !status.isTerminal())
+            .toList();
+
+    private final TaskRepository taskRepository;
+    private final UserClient userClient;
+    private final EventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration leadTime;
+    private final Duration overdueMaxAge;
+    private final int batchSize;
+
+    public TaskReminderScheduler(TaskRepository taskRepository,
+                                 UserClient userClient,
+                                 EventPublisher eventPublisher,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${app.reminders.lead-time:24h}") Duration leadTime,
+                                 @Value("${app.reminders.overdue-max-age:7d}") Duration overdueMaxAge,
+                                 @Value("${app.reminders.batch-size:1000}") int batchSize) {
+        this.taskRepository = taskRepository;
+        this.userClient = userClient;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.leadTime = leadTime;
+        this.overdueMaxAge = overdueMaxAge;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.reminders.poll-interval-ms:60000}")
+    public void run() {
+        try {
+            // Postgres keeps microseconds; truncating keeps window bounds identical to what is stored
+            OffsetDateTime now = OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            // Anything already past due is the overdue reminder's business, never "due soon"
+            remind(ReminderKind.DUE_SOON, now, now.plus(leadTime));
+            // The age bound keeps a first run from replaying every historical overdue task
+            remind(ReminderKind.OVERDUE, now.minus(overdueMaxAge), now);
+        } catch (RuntimeException e) {
+            // Unclaimed tasks keep a null reminded_at and are picked up again on the next run
+            log.warn("Reminder scan failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    private void remind(ReminderKind kind, OffsetDateTime from, OffsetDateTime until) {
+        int sent = 0;
+        for (Status status : OPEN_STATUSES) {
+            while (true) {
+                List<TaskRow> candidates = taskRepository.findReminderCandidates(kind, status, from, until, batchSize);
+                if (candidates.isEmpty()) {
+                    break;
+                }
+                // One user-service round trip per batch, with no connection or row lock held while it answers
+                Map<String, UserSummary> users = lookupUsers(candidates);
+                Integer claimed = transactionTemplate.execute(tx -> claimAndPublish(kind, candidates, users));
+                sent += claimed == null ? 0 : claimed;
+                // Claimed rows drop out of the next read; a batch nothing could be claimed from (another
+                // instance holds it, or every row changed) is left to the next run instead of re-read in a loop
+                if (candidates.size() < batchSize || claimed == null || claimed == 0) {
+                    break;
+                }
+            }
+        }
+        if (sent > 0) {
+            log.info("{} reminders: {} tasks due in ({}, {}]", kind, sent, from, until);
+        }
+    }
+
+    private Map<String, UserSummary> lookupUsers(List<TaskRow> candidates) {
+        List<String> authIds = candidates.stream().map(TaskRow::assignedToAuthId).distinct().toList();
+        return userClient.getUsersByIds(authIds).stream()
+                .collect(Collectors.toMap(UserSummary::getAuthId, Function.identity(), (a, b) -> a));
+    }
+
+    // Returns the number of tasks claimed. A task reassigned or rescheduled since it was read is left
+    // unclaimed: its reminder is re-evaluated against the new values on a later pass.
+    private int claimAndPublish(ReminderKind kind, List<TaskRow> candidates, Map<String, UserSummary> users) {
+        Map<String, TaskRow> read = candidates.stream()
+                .collect(Collectors.toMap(TaskRow::id, Function.identity()));
+        List<TaskRow> claimed = taskRepository.lockReminderCandidates(kind, new ArrayList<>(read.keySet())).stream()
+                .filter(row -> unchanged(read.get(row.id()), row))
+                .toList();
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+        // Tasks of unknown users are marked as well, otherwise every run would select them again
+        taskRepository.markReminded(kind, claimed.stream().map(TaskRow::id).toList(), OffsetDateTime.now());
+
+        Map<String, List<TaskReminderItem>> byAssignee = new LinkedHashMap<>();
+        for (TaskRow row : claimed) {
+            byAssignee.computeIfAbsent(row.assignedToAuthId(), id -> new ArrayList<>()).add(toItem(row));
+        }
+        LocalDateTime timestamp = LocalDateTime.now();
+        List<TaskReminderEvent> events = new ArrayList<>();
+        byAssignee.forEach((authId, tasks) -> {
+            UserSummary user = users.get(authId);
+            if (user == null || user.getEmail() == null) {
+                log.warn("Skipping {} reminders for unknown user {}", tasks.size(), authId);
+                return;
+            }
+            events.add(TaskReminderEvent.builder()
+                    .assignedUserId(authId)
+                    .userEmail(user.getEmail())
+                    .userFullName(user.getName())
+                    .kind(kind.name())
+                    .tasks(tasks)
+                    .timestamp(timestamp)
+                    .build());
+        });
+        eventPublisher.publishTaskReminderEvents(events, RabbitConfig.TASK_REMINDER_KEY);
+        return claimed.size();
+    }
+
+    private static boolean unchanged(TaskRow read, TaskRow current) {
+        return read != null
+                && Objects.equals(read.assignedToAuthId(), current.assignedToAuthId())
+                && read.status() == current.status()
+                && current.dueDate() != null && current.dueDate().isEqual(read.dueDate());
+    }
+
+    private static TaskReminderItem toItem(TaskRow row) {
+        return TaskReminderItem.builder()
+                .taskId(row.id())
+                .taskTitle(row.title())
+                .projectId(row.projectId())
+                .dueDate(row.dueDate())
+                .build();
+    }
+}
@@ -1,19 +1,40 @@
 package com.task.task_service.service.impl;
 
+import com.task.task_service.cache.ProjectExistenceCache;
 import com.task.task_service.dto.*;
 import com.task.task_service.exception.BadRequestException;
+import com.task.task_service.exception.ConflictException;
 import com.task.task_service.exception.ResourceNotFoundException; // Assumed Custom Exception
-import com.task.task_service.feign.ProjectClient;
 import com.task.task_service.feign.UserClient;
 import com.task.task_service.mapper.Mapper;
 import com.task.task_service.messaging.EventPublisher;
 import com.task.task_service.messaging.config.RabbitConfig;
 import com.task.task_service.model.Priority;
 import com.task.task_service.model.Task;
+import com.task.task_service.model.TaskActivityAction;
 import com.task.task_service.model.Status; // Assumed Enum
+import com.task.task_service.repository.TaskActivityRepository;
 import com.task.task_service.repository.TaskRepository;
+import com.task.task_service.repository.TaskStatusCounterRepository;
+import com.task.task_service.repository.projection.BoardColumnSeek;
+import com.task.task_service.repository.projection.StatusCount;
+import com.task.task_service.repository.projection.TaskActivityEntry;
+import com.task.task_service.repository.projection.TaskAssigneeChange;
+import com.task.task_service.repository.projection.TaskBoardCard;
+import com.task.task_service.repository.projection.TaskField;
+import com.task.task_service.repository.projection.TaskFilter;
+import com.task.task_service.repository.projection.TaskPathView;
+import com.task.task_service.repository.projection.TaskRow;
+import com.task.task_service.repository.projection.TaskSearchHit;
+import com.task.task_service.repository.projection.TaskSelection;
+import com.task.task_service.repository.projection.TaskStatusChange;
 import com.task.task_service.service.TaskService;
+import com.task.task_service.util.BoardRank;
+import com.task.task_service.util.CursorCodec;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -22,51 +43,95 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
+@Timed("service.method")
 @Service
 public class TaskServiceImpl implements TaskService {
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    // Columns of a board when the client does not pick any: archived tasks are off the board
+    private static final List<Status> BOARD_COLUMNS = List.of(Status.TODO, Status.IN_PROGRESS, Status.DONE);
+    // Reads of the parents' paths before giving up on a subtree that keeps moving underneath them
+    private static final int MAX_PATH_LOCK_ATTEMPTS = 3;
 
     private final TaskRepository taskRepository;
-    private final ProjectClient projectClient;
+    private final ProjectExistenceCache projectExistenceCache;
     private final UserClient userClient;
     private final EventPublisher eventPublisher;
-    public TaskServiceImpl(TaskRepository taskRepository, ProjectClient projectClient, UserClient userClient, EventPublisher eventPublisher) {
+    private final TaskHierarchyLoader hierarchyLoader;
+    private final ConcurrentChecks concurrentChecks;
+    private final TaskSubtreeDeleter subtreeDeleter;
+    private final EntityManager entityManager;
+    private final TaskStatusCounters statusCounters;
+    private final TaskStatusCounterRepository statusCounterRepository;
+    private final TaskActivityWriter activityWriter;
+    private final TaskActivityRepository activityRepository;
+    private final BoardRankRebalancer rankRebalancer;
+    private final int bulkChunkSize;
+    public TaskServiceImpl(TaskRepository taskRepository, ProjectExistenceCache projectExistenceCache, UserClient userClient, EventPublisher eventPublisher, TaskHierarchyLoader hierarchyLoader, ConcurrentChecks concurrentChecks,
+                           TaskSubtreeDeleter subtreeDeleter,
+                           EntityManager entityManager, TaskStatusCounters statusCounters, TaskStatusCounterRepository statusCounterRepository,
+                           TaskActivityWriter activityWriter, TaskActivityRepository activityRepository,
+                           BoardRankRebalancer rankRebalancer,
+                           @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}") int bulkChunkSize) {
         this.taskRepository = taskRepository;
-        this.projectClient = projectClient;
+        this.projectExistenceCache = projectExistenceCache;
         this.userClient = userClient;
         this.eventPublisher = eventPublisher;
+        this.hierarchyLoader = hierarchyLoader;
+        this.concurrentChecks = concurrentChecks;
+        this.subtreeDeleter = subtreeDeleter;
+        this.entityManager = entityManager;
+        this.statusCounters = statusCounters;
+        this.statusCounterRepository = statusCounterRepository;
+        this.activityWriter = activityWriter;
+        this.activityRepository = activityRepository;
+        this.rankRebalancer = rankRebalancer;
+        this.bulkChunkSize = bulkChunkSize;
     }
 
     @Override
+    @Transactional
     public TaskResponse createTask(CreateTaskRequest request, String projectId, String authId) {
         log.info("Creating task for project: {}", projectId);
 
-        // 1. Validate Project
-        boolean isExistProject = projectClient.getProjectById(projectId);
-        if(!isExistProject){
-            throw new ResourceNotFoundException("Project not found");
-        }
-
-        // 2. Validate Assignee (if provided)
-        if(request.getAssignedToAuthId() != null){
-            boolean isExistUser = userClient.getUserById(request.getAssignedToAuthId());
-            if(!isExistUser){
-                throw new ResourceNotFoundException("User not found");
+        // 1-2. Validate project and assignee concurrently; the first failure wins
+        List<Runnable> checks = new ArrayList<>();
+        checks.add(() -> {
+            boolean isExistProject = projectExistenceCache.exists(projectId);
+            if(!isExistProject){
+                throw new ResourceNotFoundException("Project not found");
             }
+        });
+        if(request.getAssignedToAuthId() != null){
+            checks.add(() -> {
+                boolean isExistUser = userClient.getUserById(request.getAssignedToAuthId());
+                if(!isExistUser){
+                    throw new ResourceNotFoundException("User not found");
+                }
+            });
         }
+        concurrentChecks.runAll(checks);
 
-        // 3. Handle Parent Task
-        Task parent = null;
+        // 3. The parent's position is read in this transaction, under a share lock, so a concurrent move
+        //    cannot leave the new task with a stale path
+        TaskPathView parentPath = null;
         if(request.getParentId() != null){
-            parent = taskRepository.findById(request.getParentId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Parent Task not found"));
+            parentPath = lockParentPaths(List.of(request.getParentId())).get(request.getParentId());
+            if (parentPath == null) {
+                throw new ResourceNotFoundException("Parent Task not found");
+            }
         }
 
+        // Parent is known to exist; a reference is enough to set the FK without another SELECT
+        Task parent = request.getParentId() != null ? taskRepository.getReferenceById(request.getParentId()) : null;
+
         // 4. Safe Enum Parsing
         Priority priority = parsePriority(request.getPriority());
 
@@ -83,29 +148,182 @@ public class TaskServiceImpl implements TaskService {
                 .attributes(request.getAttributes() != null ? request.getAttributes() : new HashMap<>())
                 .parent(parent) // Hibernate handles the relationship automatically
                 .build();
+        if (parentPath != null) {
+            task.setPath(parentPath.descendantPrefix());
+            task.setDepth(parentPath.depth() + 1);
+        }
+        // New cards go to the bottom of the TODO column
+        task.setBoardRank(appendRank(projectId, Status.TODO));
 
         Task saved = taskRepository.save(task);
+        statusCounters.add(projectId, Status.TODO, 1);
         log.info("Task created successfully with ID: {}", saved.getId());
         return Mapper.toTaskresponse(saved);
     }
 
     @Override
+    @Transactional
+    public BulkCreateTaskResponse bulkCreateTasks(BulkCreateTaskRequest request, String projectId, String authId) {
+        List<BulkTaskItem> items = request.getTasks();
+        log.info("Bulk creating {} tasks for project: {}", items.size(), projectId);
+
+        // 1. Validate Project once for the whole batch
+        boolean isExistProject = projectExistenceCache.exists(projectId);
+        if(!isExistProject){
+            throw new ResourceNotFoundException("Project not found");
+        }
+
+        // 2. Validate every distinct assignee with a single batch lookup
+        Set<String> assignees = items.stream()
+                .map(BulkTaskItem::getAssignedToAuthId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (!assignees.isEmpty()) {
+            Set<String> found = userClient.getUsersByIds(new ArrayList<>(assignees)).stream()
+                    .map(UserSummary::getAuthId)
+                    .collect(Collectors.toSet());
+            assignees.removeAll(found);
+            if (!assignees.isEmpty()) {
+                throw new ResourceNotFoundException("User not found: " + String.join(", ", assignees));
+            }
+        }
+
+        // 3. Resolve parents: existing tasks in one query, in-batch parents through their refs
+        Map<String, Integer> indexByRef = new HashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            String ref = items.get(i).getRef();
+            if (ref != null && indexByRef.put(ref, i) != null) {
+                throw new BadRequestException("Duplicate ref: " + ref);
+            }
+        }
+        Set<String> existingParentIds = items.stream()
+                .map(BulkTaskItem::getParentId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        // Locked first, so the entities below carry paths no concurrent move can change before commit
+        lockParentPaths(existingParentIds);
+        Map<String, Task> existingParents = taskRepository.findAllById(existingParentIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        existingParentIds.removeAll(existingParents.keySet());
+        if (!existingParentIds.isEmpty()) {
+            throw new ResourceNotFoundException("Parent Task not found: " + String.join(", ", existingParentIds));
+        }
+
+        // 4. Insert parents before children, flushing in JDBC-batch sized chunks. Cards land at the bottom
+        //    of the TODO column in request order, whatever order they are inserted in.
+        String[] ranks = new String[items.size()];
+        taskRepository.lockBoardColumnShared(projectId, Status.TODO);
+        String rank = taskRepository.findLastBoardRank(projectId, Status.TODO).orElse(null);
+        for (int i = 0; i < ranks.length; i++) {
+            rank = BoardRank.after(rank);
+            ranks[i] = rank;
+        }
+        rankRebalancer.checkLength(projectId, Status.TODO, rank.length());
+        Task[] created = new Task[items.size()];
+        int pending = 0;
+        for (int index : parentFirstOrder(items, indexByRef)) {
+            BulkTaskItem item = items.get(index);
+            Task parent = item.getParentRef() != null
+                    ? created[indexByRef.get(item.getParentRef())]
+                    : existingParents.get(item.getParentId());
+            Task task = Task.builder()
+                    .title(item.getTitle())
+                    .description(item.getDescription())
+                    .projectId(projectId)
+                    .priority(parsePriority(item.getPriority()))
+                    .status(Status.TODO)
+                    .dueDate(item.getDueDate())
+                    .createdByAuthId(authId)
+                    .assignedToAuthId(item.getAssignedToAuthId())
+                    .tags(item.getTags() != null ? item.getTags() : new ArrayList<>())
+                    .attributes(item.getAttributes() != null ? item.getAttributes() : new HashMap<>())
+                    .boardRank(ranks[index])
+                    .build();
+            task.placeUnder(parent);
+            entityManager.persist(task);
+            created[index] = task;
+            if (++pending == bulkChunkSize) {
+                entityManager.flush();
+                entityManager.clear();
+                pending = 0;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statusCounters.add(projectId, Status.TODO, items.size());
+
+        List<String> ids = Arrays.stream(created).map(Task::getId).toList();
+        log.info("Bulk created {} tasks for project: {}", ids.size(), projectId);
+        return BulkCreateTaskResponse.builder()
+                .created(ids.size())
+                .ids(ids)
+                .build();
+    }
+
+    // Share-locks the parents and every ancestor above them, root first, and returns the parents' positions.
+    // moveTask locks the moved task FOR UPDATE before rewriting its subtree, so a move either commits before
+    // the paths are read here, or waits until the new children are committed and then rewrites them too.
+    // A move committing between the unlocked read and the lock shows up as a changed path: read again, a
+    // bounded number of times.
+    private Map<String, TaskPathView> lockParentPaths(Collection<String> parentIds) {
+        if (parentIds.isEmpty()) {
+            return Map.of();
+        }
+        for (int attempt = 1; attempt <= MAX_PATH_LOCK_ATTEMPTS; attempt++) {
+            List<TaskPathView> read = taskRepository.findPathsByIdIn(parentIds);
+            Set<String> ids = new HashSet<>();
+            for (TaskPathView parent : read) {
+                ids.add(parent.id());
+                if (!parent.path().isEmpty()) {
+                    ids.addAll(Arrays.asList(parent.path().split("/")));
+                }
+            }
+            if (ids.isEmpty()) {
+                return Map.of();
+            }
+            Map<String, TaskPathView> locked = taskRepository.lockPathsShared(ids).stream()
+                    .collect(Collectors.toMap(TaskPathView::id, Function.identity()));
+            boolean unchanged = read.stream().allMatch(parent -> locked.get(parent.id()) == null
+                    || locked.get(parent.id()).path().equals(parent.path()));
+            if (unchanged) {
+                Map<String, TaskPathView> parents = new HashMap<>();
+                parentIds.forEach(id -> {
+                    if (locked.containsKey(id)) {
+                        parents.put(id, locked.get(id));
+                    }
+                });
+                return parents;
+            }
+        }
+        throw new ConflictException("Parent task was moved concurrently, please retry");
+    }
+
+    @Override
+    @Transactional
     public TaskResponse updateTask(String taskId, UpdateTaskRequest request) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(()->new ResourceNotFoundException("Task not found"));
+        Map<String, Object> before = TaskActivityWriter.snapshot(task);
         updateIfNotNull(request.getTitle(),task::setTitle);
         updateIfNotNull(request.getDescription(),task::setDescription);
-        updateIfNotNull(request.getDueDate(),task::setDueDate);
+        if (request.getDueDate() != null
+                && (task.getDueDate() == null || !request.getDueDate().isEqual(task.getDueDate()))) {
+            task.setDueDate(request.getDueDate());
+            task.clearReminders();
+        }
         updateIfNotNull(request.getTags(),task::setTags);
         updateIfNotNull(request.getAttributes(),task::setAttributes);
         if (request.getPriority() != null){
             task.setPriority(parsePriority(request.getPriority()));
         }
         Task updated = taskRepository.save(task);
-       return mapToTaskResponseRecursive(updated);
+        activityWriter.record(updated, TaskActivityAction.UPDATED, before);
+        // The subtree comes back in one range scan; walking the lazy subTasks cost a query per task in it
+        return hierarchyLoader.loadTree(updated.getId(), null);
     }
 
     @Override
+    @Transactional
     public TaskResponse assignTask(String taskId, AssignTaskRequest request) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(()-> new ResourceNotFoundException("Task not found!"));
@@ -119,8 +337,11 @@ public class TaskServiceImpl implements TaskService {
         if (emailAndName == null){
             throw new ResourceNotFoundException("User not found!");
         }
+        Map<String, Object> before = TaskActivityWriter.snapshot(task);
         task.setAssignedToAuthId(request.getAssignedToAuthId());
+        task.clearReminders();
         Task updated = taskRepository.save(task);
+        activityWriter.record(updated, TaskActivityAction.ASSIGNED, before);
         TaskAssignedEvent event = TaskAssignedEvent.builder()
                 .taskId(task.getId())
                 .taskTitle(task.getTitle())
@@ -141,70 +362,569 @@ public class TaskServiceImpl implements TaskService {
             throw new BadRequestException("Task is " + task.getStatus() + " and cannot be reassigned.");
         }
         Status newStatus = parseStatus(request.getStatus());
-        task.setStatus(newStatus);
+        if (newStatus != task.getStatus()) {
+            // Changing column without a drop position puts the card at the bottom of its new column
+            taskRepository.updateBoardRank(taskId, appendRank(task.getProjectId(), newStatus));
+        }
+        applyStatus(task, newStatus);
         return Mapper.toTaskresponse(task);
     }
     @Override
-    @Transactional(readOnly = true)
-    public TaskResponse getTaskById(String taskId) {
+    @Transactional
+    public TaskResponse reorderTask(String projectId, String taskId, ReorderTaskRequest request) {
         Task task = taskRepository.findById(taskId)
+                .filter(found -> found.getProjectId().equals(projectId))
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
-        return mapToTaskResponseRecursive(task);
+        Status target = request.getStatus() != null ? parseBulkStatus(request.getStatus()) : task.getStatus();
+        if (task.getStatus() == Status.ARCHIVED && target != Status.ARCHIVED) {
+            throw new BadRequestException("Task is " + task.getStatus() + " and cannot be moved.");
+        }
+        taskRepository.lockBoardColumnShared(projectId, target);
+
+        // The key goes between the drop neighbour and whatever currently follows it, both read here rather
+        // than sent by the client, so a board that is slightly out of date still lands the card where it was dropped
+        String lower = null;
+        if (request.getAfterTaskId() != null) {
+            if (request.getAfterTaskId().equals(taskId)) {
+                throw new BadRequestException("A task cannot be placed after itself");
+            }
+            Task after = taskRepository.findById(request.getAfterTaskId())
+                    .filter(found -> found.getProjectId().equals(projectId))
+                    .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+            if (after.getStatus() != target) {
+                throw new BadRequestException("Task " + after.getId() + " is not in the " + target + " column");
+            }
+            lower = after.getBoardRank();
+        }
+        String upper = taskRepository.findNextBoardRank(projectId, target, lower, taskId).orElse(null);
+        String rank = BoardRank.between(lower, upper);
+        rankRebalancer.checkLength(projectId, target, rank.length());
+
+        // One row written, whatever the size of the column
+        taskRepository.updateBoardRank(taskId, rank);
+        if (target != task.getStatus()) {
+            applyStatus(task, target);
+        }
+        return Mapper.toTaskresponse(task);
+    }
+    @Override
+    @Transactional
+    public BulkUpdateResponse bulkChangeStatus(String projectId, BulkStatusChangeRequest request) {
+        Status newStatus = parseBulkStatus(request.getStatus());
+        TaskSelection selection = toSelection(request.getTaskIds(), request.getFilter());
+        // Moved cards go to the bottom of the new column, below rankBase
+        taskRepository.lockBoardColumnShared(projectId, newStatus);
+        String rankBase = BoardRank.after(taskRepository.findLastBoardRank(projectId, newStatus).orElse(null));
+        // updateStatus appends 8 hex digits and a 'V' to the base
+        rankRebalancer.checkLength(projectId, newStatus, rankBase.length() + 9);
+        List<TaskStatusChange> changes = taskRepository.updateStatus(projectId, selection, newStatus, rankBase);
+        log.info("Bulk status change to {} updated {} tasks in project: {}", newStatus, changes.size(), projectId);
+
+        Map<Status, Long> deltas = changes.stream()
+                .collect(Collectors.groupingBy(TaskStatusChange::previousStatus, () -> new EnumMap<>(Status.class),
+                        Collectors.counting()));
+        deltas.replaceAll((status, count) -> -count);
+        deltas.merge(newStatus, (long) changes.size(), Long::sum);
+        statusCounters.addAll(projectId, deltas);
+        activityWriter.recordAll(changes.stream()
+                .map(change -> TaskActivityWriter.fieldChange(change.row().id(), projectId,
+                        TaskActivityAction.STATUS_CHANGED, "status", change.previousStatus().name(), newStatus.name()))
+                .toList());
+
+        return toBulkUpdateResponse(changes.stream().map(TaskStatusChange::row).toList());
+    }
+
+    @Override
+    @Transactional
+    public BulkUpdateResponse bulkAssign(String projectId, BulkAssignRequest request) {
+        TaskSelection selection = toSelection(request.getTaskIds(), request.getFilter());
+
+        // 1. Resolve the assignee once for the whole batch
+        EmailAndName emailAndName = userClient.getUser(request.getAssignedToAuthId());
+        if (emailAndName == null){
+            throw new ResourceNotFoundException("User not found!");
+        }
+
+        // 2. One UPDATE for every matching, non-terminal task
+        List<TaskAssigneeChange> changes = taskRepository.updateAssignee(projectId, selection, request.getAssignedToAuthId());
+        List<TaskRow> updated = changes.stream().map(TaskAssigneeChange::row).toList();
+        activityWriter.recordAll(changes.stream()
+                .map(change -> TaskActivityWriter.fieldChange(change.row().id(), projectId, TaskActivityAction.ASSIGNED,
+                        "assignedToAuthId", change.previousAssignee(), request.getAssignedToAuthId()))
+                .toList());
+        log.info("Bulk reassign to {} updated {} tasks in project: {}", request.getAssignedToAuthId(), updated.size(), projectId);
+
+        // 3. Queue the notifications in the outbox, in the same transaction as the update
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskAssignedEvent> events = updated.stream()
+                .map(row -> TaskAssignedEvent.builder()
+                        .taskId(row.id())
+                        .taskTitle(row.title())
+                        .userEmail(emailAndName.getEmail())
+                        .userFullName(emailAndName.getName())
+                        .assignedUserId(request.getAssignedToAuthId())
+                        .timestamp(now)
+                        .build())
+                .toList();
+        eventPublisher.publishTaskAssignedEvents(events, RabbitConfig.TASK_ASSIGNED_KEY);
+        return toBulkUpdateResponse(updated);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskResponse getTaskById(String taskId, Integer depth) {
+        return hierarchyLoader.loadTree(taskId, depth);
     }
 
     @Transactional(readOnly = true)
     @Override
-    public Page<TaskListResponse> getTasksByProject(String projectId, int page, int size) {
-        boolean isProjectExist = projectClient.getProjectById(projectId);
+    public Page<TaskListResponse> getTasksByProject(String projectId, int page, int size, String fields, TaskListFilter filter) {
+        Set<TaskField> selected = TaskField.parse(fields);
+        boolean isProjectExist = projectExistenceCache.exists(projectId);
         if (!isProjectExist) {
             throw new ResourceNotFoundException("Project not found");
         }
 
         Pageable pageable = PageRequest.of(page, size, Sort.by("dueDate").ascending());
 
-        Page<Task> tasks = taskRepository.findAllByProjectId(projectId, pageable);
+        Page<TaskRow> tasks = taskRepository.findRowsByProjectId(projectId, selected, TaskFilter.from(filter), pageable);
 
-        return tasks.map(task -> Mapper.toTaskListResponse(task));
+        return tasks.map(Mapper::toTaskListResponse);
     }
 
+    @Transactional(readOnly = true)
     @Override
-    public Void deleteTask(String taskId) {
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(()-> new ResourceNotFoundException("Task not found!"));
+    public CursorPageResponse<TaskListResponse> getTasksByProjectAfter(String projectId, String after, int size, String fields, TaskListFilter filter) {
+        Set<TaskField> selected = TaskField.parse(fields);
+        boolean isProjectExist = projectExistenceCache.exists(projectId);
+        if (!isProjectExist) {
+            throw new ResourceNotFoundException("Project not found");
+        }
+        int pageSize = Math.clamp(size, 1, MAX_CURSOR_PAGE_SIZE);
+
+        OffsetDateTime afterDueDate = null;
+        String afterId = null;
+        if (after != null && !after.isBlank()) {
+            List<String> cursor = CursorCodec.decode(after, 2);
+            afterDueDate = parseCursorDueDate(cursor.get(0));
+            afterId = cursor.get(1);
+        }
+        // Fetch one extra row to know whether another page exists without running COUNT(*)
+        List<TaskRow> rows = taskRepository.findRowsByProjectIdAfter(projectId, selected, TaskFilter.from(filter), afterDueDate, afterId, pageSize + 1);
 
-        taskRepository.deleteById(taskId);
-        return null;
+        boolean hasNext = rows.size() > pageSize;
+        List<TaskRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            TaskRow last = page.get(page.size() - 1);
+            nextCursor = CursorCodec.encode(
+                    last.dueDate() != null ? last.dueDate().toString() : null,
+                    last.id());
+        }
+        return CursorPageResponse.<TaskListResponse>builder()
+                .content(page.stream().map(Mapper::toTaskListResponse).toList())
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
     }
 
+    @Transactional(readOnly = true)
     @Override
-    public Page<TaskResponse> getTasksByOrg(List<String> projectIds, Pageable pageable) {
-        if(projectIds == null || projectIds.isEmpty()){
-            return Page.empty(pageable);
+    public TaskBoardResponse getBoard(String projectId, List<String> statuses, List<String> after, int limit, String fields, TaskListFilter filter) {
+        Set<TaskField> selected = TaskField.parse(fields);
+        boolean isProjectExist = projectExistenceCache.exists(projectId);
+        if (!isProjectExist) {
+            throw new ResourceNotFoundException("Project not found");
         }
-        Page<Task> taskPage = taskRepository.findAllByProjectIdIn(projectIds, pageable);
-        return taskPage.map(Mapper::toTaskresponse);
+        int columnSize = Math.clamp(limit, 1, MAX_CURSOR_PAGE_SIZE);
+
+        Map<Status, BoardColumnSeek> cursors = new EnumMap<>(Status.class);
+        if (after != null) {
+            for (String value : after) {
+                BoardColumnSeek cursor = parseBoardCursor(value);
+                cursors.put(cursor.status(), cursor);
+            }
+        }
+        // Explicit columns win; cursors alone mean "load more" of just those columns; otherwise the whole board
+        List<Status> columns;
+        if (statuses != null && !statuses.isEmpty()) {
+            columns = statuses.stream().map(this::parseBulkStatus).distinct().toList();
+        } else if (!cursors.isEmpty()) {
+            columns = List.copyOf(cursors.keySet());
+        } else {
+            columns = BOARD_COLUMNS;
+        }
+        List<BoardColumnSeek> seeks = columns.stream()
+                .map(status -> cursors.getOrDefault(status, new BoardColumnSeek(status, null, null)))
+                .toList();
+
+        // One extra row per column tells whether that column has more, as with the cursor pages
+        Map<Status, List<TaskBoardCard>> cardsByStatus = taskRepository.findBoardRows(projectId, selected, TaskFilter.from(filter), seeks, columnSize + 1)
+                .stream()
+                .collect(Collectors.groupingBy(card -> card.row().status(), () -> new EnumMap<>(Status.class), Collectors.toList()));
+
+        List<TaskBoardColumn> boardColumns = columns.stream()
+                .map(status -> toBoardColumn(status, cardsByStatus.getOrDefault(status, List.of()), columnSize))
+                .toList();
+        return TaskBoardResponse.builder()
+                .projectId(projectId)
+                .columns(boardColumns)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageResponse<TaskListResponse> searchTasksInProject(String projectId, String query, String after, int size, String fields) {
+        boolean isProjectExist = projectExistenceCache.exists(projectId);
+        if (!isProjectExist) {
+            throw new ResourceNotFoundException("Project not found");
+        }
+        return searchTasks(List.of(projectId), query, after, size, fields);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageResponse<TaskListResponse> searchTasks(List<String> projectIds, String query, String after, int size, String fields) {
+        Set<TaskField> selected = TaskField.parse(fields);
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query must not be empty");
+        }
+        int pageSize = Math.clamp(size, 1, MAX_CURSOR_PAGE_SIZE);
+        if (projectIds == null || projectIds.isEmpty()) {
+            return CursorPageResponse.<TaskListResponse>builder()
+                    .content(List.of())
+                    .build();
+        }
+
+        Float afterRank = null;
+        String afterId = null;
+        if (after != null && !after.isBlank()) {
+            List<String> cursor = CursorCodec.decode(after, 2);
+            afterRank = parseCursorRank(cursor.get(0));
+            afterId = cursor.get(1);
+        }
+        List<TaskSearchHit> hits = taskRepository.searchRows(projectIds, query, selected, afterRank, afterId, pageSize + 1);
+
+        boolean hasNext = hits.size() > pageSize;
+        List<TaskSearchHit> page = hasNext ? hits.subList(0, pageSize) : hits;
+        String nextCursor = null;
+        if (hasNext) {
+            TaskSearchHit last = page.get(page.size() - 1);
+            nextCursor = CursorCodec.encode(Float.toString(last.rank()), last.row().id());
+        }
+        return CursorPageResponse.<TaskListResponse>builder()
+                .content(page.stream().map(hit -> Mapper.toTaskListResponse(hit.row())).toList())
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskActivityResponse> getTaskActivity(String projectId, String taskId, String after, int size) {
+        // Archived tasks keep their history
+        taskRepository.findPathById(taskId)
+                .or(() -> taskRepository.findArchivedPathById(taskId))
+                .filter(found -> found.projectId().equals(projectId))
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+        int pageSize = Math.clamp(size, 1, MAX_CURSOR_PAGE_SIZE);
+        ActivityCursor cursor = parseActivityCursor(after);
+        return toActivityPage(activityRepository.findByTaskId(taskId, cursor.occurredAt(), cursor.id(), pageSize + 1), pageSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskActivityResponse> getProjectActivity(String projectId, String after, int size) {
+        boolean isProjectExist = projectExistenceCache.exists(projectId);
+        if (!isProjectExist) {
+            throw new ResourceNotFoundException("Project not found");
+        }
+        int pageSize = Math.clamp(size, 1, MAX_CURSOR_PAGE_SIZE);
+        ActivityCursor cursor = parseActivityCursor(after);
+        return toActivityPage(activityRepository.findByProjectId(projectId, cursor.occurredAt(), cursor.id(), pageSize + 1), pageSize);
+    }
+
+    @Override
+    @Transactional
+    public TaskResponse moveTask(String projectId, String taskId, MoveTaskRequest request) {
+        String newParentId = request.getNewParentId();
+        if (taskId.equals(newParentId)) {
+            throw new BadRequestException("A task cannot be its own parent");
+        }
+        List<String> ids = newParentId == null ? List.of(taskId) : List.of(taskId, newParentId);
+        Map<String, TaskPathView> locked = taskRepository.lockPaths(ids).stream()
+                .collect(Collectors.toMap(TaskPathView::id, Function.identity()));
+        TaskPathView task = locked.get(taskId);
+        if (task == null || !task.projectId().equals(projectId)) {
+            throw new ResourceNotFoundException("Task not found");
+        }
+        String newPath = "";
+        int newDepth = 0;
+        if (newParentId != null) {
+            TaskPathView newParent = locked.get(newParentId);
+            if (newParent == null || !newParent.projectId().equals(projectId)) {
+                throw new ResourceNotFoundException("Parent Task not found");
+            }
+            if (task.isAncestorOf(newParent)) {
+                throw new BadRequestException("A task cannot be moved under its own subtask");
+            }
+            newPath = newParent.descendantPrefix();
+            newDepth = newParent.depth() + 1;
+        }
+        int moved = taskRepository.moveSubtree(task, newParentId, newPath, newDepth);
+        activityWriter.recordAll(List.of(TaskActivityWriter.fieldChange(taskId, projectId, TaskActivityAction.MOVED,
+                "parentId", task.parentId(), newParentId)));
+        log.info("Moved task {} ({} tasks) under {}", taskId, moved, newParentId);
+        return hierarchyLoader.loadTree(taskId, 0);
     }
 
-    // Helper method to handle the hierarchy recursion
-    private TaskResponse mapToTaskResponseRecursive(Task task) {
-        TaskResponse response = Mapper.toTaskresponse(task);
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskBreadcrumbItem> getAncestors(String taskId) {
+        TaskPathView task = taskRepository.findPathById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+        if (task.path().isEmpty()) {
+            return List.of();
+        }
+        List<String> ancestorIds = Arrays.asList(task.path().split("/"));
+        return taskRepository.findPathNodes(ancestorIds).stream()
+                .map(Mapper::toBreadcrumbItem)
+                .toList();
+    }
 
-        // B. Populate Parent ID (Accessing .getParent() triggers Lazy Load)
-        if (task.getParent() != null) {
-            response.setParentId(task.getParent().getId());
+    @Override
+    @Transactional(readOnly = true)
+    public TaskSubtreeSummary getSubtreeSummary(String taskId) {
+        TaskPathView task = taskRepository.findPathById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Status status : Status.values()) {
+            counts.put(status.name(), 0L);
+        }
+        long total = 0;
+        for (StatusCount row : taskRepository.countDescendantsByStatus(task.descendantPattern())) {
+            counts.put(row.status().name(), row.count());
+            total += row.count();
         }
+        return TaskSubtreeSummary.builder()
+                .taskId(taskId)
+                .depth(task.depth())
+                .descendantCount(total)
+                .descendantStatusCounts(counts)
+                .build();
+    }
 
-        // C. Populate Subtasks (Accessing .getSubTasks() triggers Lazy Load)
-        if (task.getSubTasks() != null && !task.getSubTasks().isEmpty()) {
-            List<TaskResponse> subTaskResponses = task.getSubTasks().stream()
-                    .map(this::mapToTaskResponseRecursive) // Recursive call
-                    .toList(); // Use .collect(Collectors.toList()) for Java < 16
-            response.setSubTasks(subTaskResponses);
+    @Override
+    @Transactional
+    public TaskDeletionResponse deleteTask(String taskId) {
+        TaskPathView root = taskRepository.findPathById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found!"));
+        long subtreeSize = taskRepository.countDescendants(root.descendantPattern()) + 1;
+        boolean async = subtreeDeleter.shouldRunInBackground(subtreeSize);
+        if (async) {
+            log.info("Task {} has {} tasks in its subtree, deleting in the background", taskId, subtreeSize);
+            subtreeDeleter.deleteInBackground(root);
         } else {
-            response.setSubTasks(new ArrayList<>());
+            subtreeDeleter.deleteNow(root);
         }
+        return TaskDeletionResponse.builder()
+                .rootTaskId(taskId)
+                .taskCount(subtreeSize)
+                .async(async)
+                .build();
+    }
 
-        return response;
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectTaskCounts> getTaskCounts(List<String> projectIds) {
+        if (projectIds == null || projectIds.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Map<String, Long>> byProject = new LinkedHashMap<>();
+        for (String projectId : projectIds) {
+            Map<String, Long> counts = new LinkedHashMap<>();
+            for (Status status : Status.values()) {
+                counts.put(status.name(), 0L);
+            }
+            byProject.put(projectId, counts);
+        }
+        for (StatusCount row : statusCounterRepository.sumByProjectIdIn(projectIds)) {
+            byProject.get(row.projectId()).put(row.status().name(), row.count());
+        }
+        return byProject.entrySet().stream()
+                .map(entry -> ProjectTaskCounts.builder()
+                        .projectId(entry.getKey())
+                        .counts(entry.getValue())
+                        .total(entry.getValue().values().stream().mapToLong(Long::longValue).sum())
+                        .build())
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TaskResponse> getTasksByOrg(List<String> projectIds, Pageable pageable, String fields, TaskListFilter filter) {
+        Set<TaskField> selected = TaskField.parse(fields);
+        if(projectIds == null || projectIds.isEmpty()){
+            return Page.empty(pageable);
+        }
+        Page<TaskRow> taskPage = taskRepository.findRowsByProjectIdIn(projectIds, selected, TaskFilter.from(filter), pageable);
+        return taskPage.map(Mapper::toTaskresponse);
+    }
+
+    // Orders bulk items so every in-batch parent is inserted before its children; rejects unknown refs and cycles
+    private List<Integer> parentFirstOrder(List<BulkTaskItem> items, Map<String, Integer> indexByRef) {
+        int[] depth = new int[items.size()];
+        Arrays.fill(depth, -1);
+        for (int i = 0; i < items.size(); i++) {
+            Set<Integer> visiting = new HashSet<>();
+            List<Integer> chain = new ArrayList<>();
+            int current = i;
+            while (current != -1 && depth[current] == -1) {
+                if (!visiting.add(current)) {
+                    throw new BadRequestException("Cyclic parentRef involving: " + items.get(current).getRef());
+                }
+                chain.add(current);
+                BulkTaskItem item = items.get(current);
+                if (item.getParentRef() != null && item.getParentId() != null) {
+                    throw new BadRequestException("Use either parentRef or parentId, not both");
+                }
+                if (item.getParentRef() == null) {
+                    current = -1;
+                } else {
+                    Integer parentIndex = indexByRef.get(item.getParentRef());
+                    if (parentIndex == null) {
+                        throw new BadRequestException("Unknown parentRef: " + item.getParentRef());
+                    }
+                    current = parentIndex;
+                }
+            }
+            int base = current == -1 ? -1 : depth[current];
+            for (int j = chain.size() - 1; j >= 0; j--) {
+                depth[chain.get(j)] = ++base;
+            }
+        }
+        List<Integer> order = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparingInt(i -> depth[i]));
+        return order;
+    }
+    private void applyStatus(Task task, Status newStatus) {
+        Map<String, Object> before = TaskActivityWriter.snapshot(task);
+        statusCounters.moved(task.getProjectId(), task.getStatus(), newStatus);
+        task.setStatus(newStatus);
+        activityWriter.record(task, TaskActivityAction.STATUS_CHANGED, before);
+    }
+    // Key below every card currently in the column. Concurrent appends may get the same key; ties sort by id.
+    private String appendRank(String projectId, Status status) {
+        taskRepository.lockBoardColumnShared(projectId, status);
+        String rank = BoardRank.after(taskRepository.findLastBoardRank(projectId, status).orElse(null));
+        rankRebalancer.checkLength(projectId, status, rank.length());
+        return rank;
+    }
+    private TaskSelection toSelection(List<String> taskIds, BulkTaskFilter filter) {
+        TaskSelection selection = new TaskSelection(
+                taskIds,
+                filter != null && filter.getStatus() != null ? parseBulkStatus(filter.getStatus()) : null,
+                filter != null ? filter.getAssignedToAuthId() : null);
+        // An empty selection would touch every task in the project
+        if (selection.isEmpty()) {
+            throw new BadRequestException("Either taskIds or a filter is required");
+        }
+        return selection;
+    }
+    private BulkUpdateResponse toBulkUpdateResponse(List<TaskRow> updated) {
+        return BulkUpdateResponse.builder()
+                .updated(updated.size())
+                .ids(updated.stream().map(TaskRow::id).toList())
+                .build();
+    }
+    // Unlike parseStatus, never falls back to TODO: a typo must not move a whole board
+    private Status parseBulkStatus(String statusStr) {
+        try {
+            return Status.valueOf(statusStr.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid status: " + statusStr);
+        }
+    }
+    private BoardColumnSeek parseBoardCursor(String after) {
+        List<String> cursor = CursorCodec.decode(after, 3);
+        Status status;
+        try {
+            status = Status.valueOf(cursor.get(0));
+        } catch (NullPointerException | IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        if (cursor.get(1) == null || cursor.get(2) == null) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        return new BoardColumnSeek(status, cursor.get(1), cursor.get(2));
+    }
+    private TaskBoardColumn toBoardColumn(Status status, List<TaskBoardCard> cards, int columnSize) {
+        boolean hasNext = cards.size() > columnSize;
+        List<TaskBoardCard> page = hasNext ? cards.subList(0, columnSize) : cards;
+        String nextCursor = null;
+        if (hasNext) {
+            TaskBoardCard last = page.get(page.size() - 1);
+            nextCursor = CursorCodec.encode(status.name(), last.boardRank(), last.row().id());
+        }
+        return TaskBoardColumn.builder()
+                .status(status.name())
+                .tasks(page.stream().map(card -> Mapper.toTaskListResponse(card.row())).toList())
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+    private record ActivityCursor(OffsetDateTime occurredAt, Long id) {
+    }
+    private ActivityCursor parseActivityCursor(String after) {
+        if (after == null || after.isBlank()) {
+            return new ActivityCursor(null, null);
+        }
+        List<String> cursor = CursorCodec.decode(after, 2);
+        OffsetDateTime occurredAt = parseCursorDueDate(cursor.get(0));
+        try {
+            return new ActivityCursor(occurredAt, Long.valueOf(cursor.get(1)));
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+    // Same one-extra-row trick as the task cursor pages
+    private CursorPageResponse<TaskActivityResponse> toActivityPage(List<TaskActivityEntry> entries, int pageSize) {
+        boolean hasNext = entries.size() > pageSize;
+        List<TaskActivityEntry> page = hasNext ? entries.subList(0, pageSize) : entries;
+        String nextCursor = null;
+        if (hasNext) {
+            TaskActivityEntry last = page.get(page.size() - 1);
+            nextCursor = CursorCodec.encode(last.occurredAt().toString(), String.valueOf(last.id()));
+        }
+        return CursorPageResponse.<TaskActivityResponse>builder()
+                .content(page.stream().map(Mapper::toTaskActivityResponse).toList())
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+    private Float parseCursorRank(String value) {
+        try {
+            return Float.valueOf(value);
+        } catch (NullPointerException | NumberFormatException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+    private OffsetDateTime parseCursorDueDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
     }
     private Priority parsePriority(String priorityStr) {
         if (priorityStr == null) return Priority.MEDIUM;
@@ -0,0 +1,55 @@
+package com.task.task_service.service.impl;
+
+import com.task.task_service.model.Status;
+import com.task.task_service.repository.TaskStatusCounterRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Keeps task_status_counters in step with task writes. Must run inside the writer's transaction so the
+// counts commit or roll back together with the tasks they describe.
+@Component
+public class TaskStatusCounters {
+    private final TaskStatusCounterRepository counterRepository;
+    private final int stripes;
+
+    public TaskStatusCounters(TaskStatusCounterRepository counterRepository,
+                              @Value("${app.counters.stripes:8}") int stripes) {
+        this.counterRepository = counterRepository;
+        this.stripes = stripes;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(String projectId, Status status, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        counterRepository.add(projectId, status.name(), ThreadLocalRandom.current().nextInt(stripes), delta);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void moved(String projectId, Status from, Status to) {
+        if (from == to) {
+            return;
+        }
+        Map<Status, Long> deltas = new EnumMap<>(Status.class);
+        deltas.put(from, -1L);
+        deltas.put(to, 1L);
+        addAll(projectId, deltas);
+    }
+
+    // Rows are locked in Status order whatever order the deltas come in: a move A->B running next to a move
+    // B->A would otherwise lock the two counter rows in opposite orders and deadlock
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addAll(String projectId, Map<Status, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        new EnumMap<>(deltas).forEach((status, delta) -> add(projectId, status, delta));
+    }
+}
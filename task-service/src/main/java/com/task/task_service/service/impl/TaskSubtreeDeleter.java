@@ -0,0 +1,119 @@
+package com.task.task_service.service.impl;
+
+import com.task.task_service.dto.TaskDeletedEvent;
+import com.task.task_service.messaging.EventPublisher;
+import com.task.task_service.messaging.config.RabbitConfig;
+import com.task.task_service.model.Status;
+import com.task.task_service.repository.TaskRepository;
+import com.task.task_service.repository.projection.DeletedTask;
+import com.task.task_service.repository.projection.TaskPathView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// Removes a task with all of its descendants without loading them as entities. Small trees go in one
+// path-prefix DELETE inside the caller's transaction; large ones are removed in the background, deepest
+// level first, one short transaction per chunk. Either way a single task.deleted event is emitted.
+@Component
+@Slf4j
+public class TaskSubtreeDeleter {
+    private final TaskRepository taskRepository;
+    private final TaskStatusCounters statusCounters;
+    private final EventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long asyncThreshold;
+
+    public TaskSubtreeDeleter(TaskRepository taskRepository,
+                              TaskStatusCounters statusCounters,
+                              EventPublisher eventPublisher,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${app.tasks.delete.chunk-size:500}") int chunkSize,
+                              @Value("${app.tasks.delete.async-threshold:1000}") long asyncThreshold) {
+        this.taskRepository = taskRepository;
+        this.statusCounters = statusCounters;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.asyncThreshold = asyncThreshold;
+    }
+
+    public boolean shouldRunInBackground(long subtreeSize) {
+        return subtreeSize > asyncThreshold;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<DeletedTask> deleteNow(TaskPathView root) {
+        // Archived descendants still count towards the project's totals, so they go (and are released) too
+        List<DeletedTask> deleted = new ArrayList<>(taskRepository.deleteArchivedDescendants(root));
+        deleted.addAll(taskRepository.deleteSubtree(root));
+        releaseCounters(deleted);
+        publishDeleted(root.id(), deleted);
+        return deleted;
+    }
+
+    @Async
+    public void deleteInBackground(TaskPathView root) {
+        String rootId = root.id();
+        List<String> descendants = taskRepository.findDescendantIdsDeepestFirst(root.descendantPattern());
+        log.info("Deleting task {} with {} descendants in chunks of {}", rootId, descendants.size(), chunkSize);
+        List<DeletedTask> deleted = new ArrayList<>(descendants.size() + 1);
+        try {
+            for (int from = 0; from < descendants.size(); from += chunkSize) {
+                List<String> chunk = descendants.subList(from, Math.min(from + chunkSize, descendants.size()));
+                deleted.addAll(transactionTemplate.execute(status -> {
+                    List<DeletedTask> rows = taskRepository.deleteByIds(chunk);
+                    releaseCounters(rows);
+                    return rows;
+                }));
+            }
+            // The root goes last, together with anything added under the tree while the chunks ran
+            transactionTemplate.executeWithoutResult(status -> {
+                List<DeletedTask> rows = new ArrayList<>(taskRepository.deleteArchivedDescendants(root));
+                rows.addAll(taskRepository.deleteSubtree(root));
+                releaseCounters(rows);
+                deleted.addAll(rows);
+                publishDeleted(rootId, deleted);
+            });
+            log.info("Deleted task {} and {} descendants", rootId, deleted.size() - 1);
+        } catch (RuntimeException e) {
+            // Finished chunks stay deleted and their counters are already released; deleting the root again resumes
+            log.error("Background delete of task {} stopped after {} rows", rootId, deleted.size(), e);
+        }
+    }
+
+    private void releaseCounters(List<DeletedTask> deleted) {
+        Map<String, Map<Status, Long>> byProject = deleted.stream()
+                .collect(Collectors.groupingBy(DeletedTask::projectId,
+                        Collectors.groupingBy(DeletedTask::status, () -> new EnumMap<>(Status.class), Collectors.counting())));
+        byProject.forEach((projectId, counts) -> {
+            counts.replaceAll((status, count) -> -count);
+            statusCounters.addAll(projectId, counts);
+        });
+    }
+
+    private void publishDeleted(String rootId, List<DeletedTask> deleted) {
+        if (deleted.isEmpty()) {
+            return;
+        }
+        TaskDeletedEvent event = TaskDeletedEvent.builder()
+                .rootTaskId(rootId)
+                .projectId(deleted.get(deleted.size() - 1).projectId())
+                .deletedCount(deleted.size())
+                .deletedTaskIds(deleted.stream().map(DeletedTask::id).toList())
+                .timestamp(LocalDateTime.now())
+                .build();
+        eventPublisher.publishTaskDeletedEvent(event, RabbitConfig.TASK_DELETED_KEY);
+    }
+}
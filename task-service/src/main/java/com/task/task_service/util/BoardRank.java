@@ -0,0 +1,102 @@
+package com.task.task_service.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Fractional ordering keys for cards inside a board column. A key is a base-62 fraction (digits in ASCII
+// order, so "C" collation and String.compareTo agree) that never ends in '0'; there is always a key between
+// two different keys, so placing a card between two neighbours rewrites that card only. Keys grow by
+// about one digit per six inserts at the same spot, which is what the rebalance resets.
+public final class BoardRank {
+    private static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+    private static final char ZERO = DIGITS.charAt(0);
+    private static final char LAST = DIGITS.charAt(BASE - 1);
+
+    private BoardRank() {
+    }
+
+    // Key strictly between lower and upper; a null lower is the top of the column, a null upper the bottom
+    public static String between(String lower, String upper) {
+        if (upper == null) {
+            return after(lower);
+        }
+        if (lower != null && lower.compareTo(upper) >= 0) {
+            throw new IllegalArgumentException("Rank " + lower + " is not below " + upper);
+        }
+        return midpoint(lower == null ? "" : lower, upper);
+    }
+
+    // Short key after the given one: appending steps the first digit that can still grow instead of halving
+    // the remaining space, so a column filled from the bottom grows one digit per ~30 cards, not per six
+    public static String after(String lower) {
+        if (lower == null || lower.isEmpty()) {
+            return String.valueOf(DIGITS.charAt(BASE / 2));
+        }
+        for (int i = 0; i < lower.length(); i++) {
+            char digit = lower.charAt(i);
+            if (digit != LAST) {
+                return lower.substring(0, i) + DIGITS.charAt(DIGITS.indexOf(digit) + 1);
+            }
+        }
+        return lower + DIGITS.charAt(BASE / 2);
+    }
+
+    // count keys spread evenly over the whole key space, with room for ~BASE inserts between neighbours
+    public static List<String> evenlySpaced(int count) {
+        int width = 1;
+        long space = BASE;
+        while (space / (count + 1L) < BASE && width < 10) {
+            width++;
+            space *= BASE;
+        }
+        long step = space / (count + 1L);
+        List<String> keys = new ArrayList<>(count);
+        for (long i = 1; i <= count; i++) {
+            keys.add(toKey(i * step, width));
+        }
+        return keys;
+    }
+
+    // Base-62 digits of value, left-padded to width, trailing zeros dropped (same fraction, shorter key)
+    private static String toKey(long value, int width) {
+        char[] digits = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            digits[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        int end = width;
+        while (end > 1 && digits[end - 1] == ZERO) {
+            end--;
+        }
+        return new String(digits, 0, end);
+    }
+
+    // lower < upper, neither ends in '0'; lower may be "" (zero), upper null (one)
+    private static String midpoint(String lower, String upper) {
+        if (upper != null) {
+            int common = 0;
+            while (digitAt(lower, common) == upper.charAt(common)) {
+                common++;
+            }
+            if (common > 0) {
+                return upper.substring(0, common) + midpoint(lower.substring(Math.min(common, lower.length())), upper.substring(common));
+            }
+        }
+        int low = lower.isEmpty() ? 0 : DIGITS.indexOf(lower.charAt(0));
+        int high = upper != null ? DIGITS.indexOf(upper.charAt(0)) : BASE;
+        if (high - low > 1) {
+            return String.valueOf(DIGITS.charAt((low + high + 1) / 2));
+        }
+        // Adjacent first digits: upper's first digit alone still sorts below upper when upper is longer,
+        // otherwise keep lower's digit and split what follows it
+        if (upper != null && upper.length() > 1) {
+            return upper.substring(0, 1);
+        }
+        return DIGITS.charAt(low) + midpoint(lower.isEmpty() ? "" : lower.substring(1), null);
+    }
+
+    private static char digitAt(String key, int index) {
+        return index < key.length() ? key.charAt(index) : ZERO;
+    }
+}
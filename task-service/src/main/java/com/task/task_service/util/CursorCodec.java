@@ -0,0 +1,40 @@
+package com.task.task_service.util;
+
+import com.task.task_service.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+// Opaque, URL-safe keyset cursors. A cursor is just the sort key of the last row a client saw,
+// joined and base64 encoded so clients never depend on its shape.
+public final class CursorCodec {
+    private static final String SEPARATOR = "|";
+    private static final String NULL_MARKER = "~";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(String... parts) {
+        String joined = String.join(SEPARATOR, Arrays.stream(parts)
+                .map(part -> part == null ? NULL_MARKER : part)
+                .toList());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static List<String> decode(String cursor, int expectedParts) {
+        try {
+            String joined = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            List<String> parts = Arrays.stream(joined.split("\\" + SEPARATOR, -1))
+                    .map(part -> NULL_MARKER.equals(part) ? null : part)
+                    .toList();
+            if (parts.size() != expectedParts) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,100 @@
+-- Runs after Hibernate's ddl-auto update (spring.jpa.defer-datasource-initialization), so the tables
+-- already exist. Every statement must be idempotent: this file is executed on each startup.
+
+-- Full-text search: weighted title/description vector maintained by PostgreSQL itself
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'B')
+    ) STORED;
+CREATE INDEX IF NOT EXISTS idx_tasks_search_vector ON tasks USING GIN (search_vector);
+
+-- Tag and custom-attribute filters: && / @> on tags, @> on attributes (jsonb_path_ops is smaller and faster for @>)
+CREATE INDEX IF NOT EXISTS idx_tasks_tags ON tasks USING GIN (tags);
+CREATE INDEX IF NOT EXISTS idx_tasks_attributes ON tasks USING GIN (attributes jsonb_path_ops);
+
+-- Status counters: seed from the tasks table the first time the counters table exists and is empty.
+-- From then on TaskStatusCounters keeps it current inside every task write.
+INSERT INTO task_status_counters (project_id, status, stripe, count)
+SELECT project_id, status, 0, count(*) FROM tasks
+WHERE NOT EXISTS (SELECT 1 FROM task_status_counters)
+GROUP BY project_id, status;
+
+-- Materialized path: prefix index for descendant range scans (LIKE 'prefix%'), independent of the db collation
+CREATE INDEX IF NOT EXISTS idx_tasks_path ON tasks (path text_pattern_ops);
+
+-- Backfill path/depth for rows written before the columns existed. The partial index keeps the
+-- "anything to do?" probe cheap on every later startup, when it is empty.
+CREATE INDEX IF NOT EXISTS idx_tasks_path_missing ON tasks (id) WHERE path IS NULL OR depth IS NULL;
+UPDATE tasks t SET path = tree.path, depth = tree.depth
+FROM (
+    WITH RECURSIVE tree AS (
+        SELECT id, CAST('' AS text) AS path, 0 AS depth FROM tasks
+        WHERE parent_id IS NULL AND EXISTS (SELECT 1 FROM tasks WHERE path IS NULL OR depth IS NULL)
+        UNION ALL
+        SELECT c.id, tree.path || tree.id || '/', tree.depth + 1 FROM tasks c JOIN tree ON c.parent_id = tree.id
+    )
+    SELECT id, path, depth FROM tree
+) tree
+WHERE t.id = tree.id AND (t.path IS NULL OR t.depth IS NULL);
+
+-- Board ranks: rows written before the column existed get keys in their old board order (due date). Hex digits
+-- are valid rank digits and the trailing 'V' keeps a key from ending in '0'. The partial index only serves the
+-- backfill and is dropped once it has run, so task writes do not keep maintaining it.
+CREATE INDEX IF NOT EXISTS idx_tasks_rank_missing ON tasks (id) WHERE board_rank IS NULL;
+UPDATE tasks t SET board_rank = ranked.board_rank
+FROM (
+    SELECT id, lpad(to_hex(ROW_NUMBER() OVER (PARTITION BY project_id, status ORDER BY due_date NULLS LAST, id)), 8, '0')
+               || 'V' AS board_rank
+    FROM tasks WHERE board_rank IS NULL
+) ranked
+WHERE t.id = ranked.id;
+DROP INDEX IF EXISTS idx_tasks_rank_missing;
+
+-- Reminder scan: per open status, a due-date window walked in (due_date, id) order. Each kind indexes only the
+-- tasks not yet reminded of it, so a run never walks past rows it already sent.
+CREATE INDEX IF NOT EXISTS idx_tasks_due_soon_pending ON tasks (status, due_date, id) WHERE due_soon_reminded_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_tasks_overdue_pending ON tasks (status, due_date, id) WHERE overdue_reminded_at IS NULL;
+
+-- Task activity log: append-only, range-partitioned by month on occurred_at. TaskActivityPartitionManager
+-- creates upcoming months and detaches/drops expired ones, so history never lives in (or bloats) tasks.
+-- The primary key must contain the partition key; indexes on the parent are created on every partition.
+CREATE SEQUENCE IF NOT EXISTS task_activity_id_seq;
+CREATE TABLE IF NOT EXISTS task_activity (
+    id          bigint       NOT NULL DEFAULT nextval('task_activity_id_seq'),
+    task_id     varchar(255) NOT NULL,
+    project_id  varchar(255) NOT NULL,
+    action      varchar(32)  NOT NULL,
+    changes     jsonb        NOT NULL,
+    occurred_at timestamptz  NOT NULL,
+    PRIMARY KEY (occurred_at, id)
+) PARTITION BY RANGE (occurred_at);
+CREATE INDEX IF NOT EXISTS idx_task_activity_task ON task_activity (task_id, occurred_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_task_activity_project ON task_activity (project_id, occurred_at DESC, id DESC);
+
+-- Cold tier for DONE/ARCHIVED tasks, filled by TaskArchiver. Columns are spelled out rather than copied
+-- LIKE tasks so the archive carries none of the hot table's generated columns or indexes.
+CREATE TABLE IF NOT EXISTS tasks_archive (
+    id                  varchar(255) PRIMARY KEY,
+    project_id          varchar(255) NOT NULL,
+    title               varchar(255) NOT NULL,
+    description         text,
+    status              varchar(255) NOT NULL,
+    priority            varchar(255) NOT NULL,
+    due_date            timestamp(6) with time zone,
+    created_by_auth_id  varchar(255) NOT NULL,
+    assigned_to_auth_id varchar(255),
+    parent_id           varchar(255),
+    path                text,
+    depth               integer,
+    tags                text[],
+    attributes          jsonb,
+    version             integer,
+    created_at          timestamp(6) with time zone NOT NULL,
+    updated_at          timestamp(6) with time zone,
+    archived_at         timestamp(6) with time zone NOT NULL DEFAULT now()
+);
+CREATE INDEX IF NOT EXISTS idx_tasks_archive_project ON tasks_archive (project_id);
+CREATE INDEX IF NOT EXISTS idx_tasks_archive_path ON tasks_archive (path text_pattern_ops);
+-- Archival candidates, oldest first; only terminal rows are indexed, so it stays small
+CREATE INDEX IF NOT EXISTS idx_tasks_terminal_updated ON tasks (updated_at, id) WHERE status IN ('DONE', 'ARCHIVED');
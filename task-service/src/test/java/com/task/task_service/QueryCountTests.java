@@ -0,0 +1,250 @@
+package com.task.task_service;
+
+import com.task.task_service.dto.*;
+import com.task.task_service.feign.ProjectClient;
+import com.task.task_service.feign.UserClient;
+import com.task.task_service.service.TaskService;
+import com.taskmanager.shared.test.QueryCounter;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.taskmanager.shared.test.QueryCounter.assertMaxStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+// Query budgets for the task write, list, board and tree paths: none of them may cost a query per task. The
+// queries and schema.sql are PostgreSQL-only, so this runs on an embedded PostgreSQL server (no Docker needed).
+// The counter sees every thread, so scheduling is stubbed out: pollers would otherwise add their own queries.
+@SpringBootTest(properties = "app.tracing.span-file=")
+@Import(QueryCounter.class)
+class QueryCountTests {
+    private static final int CHILDREN = 4;
+    private static final int SUBTREE_SIZE = 1 + CHILDREN + CHILDREN * CHILDREN;
+    private static final int TASKS = 40;
+    private static final String AUTH_ID = "auth-0";
+    private static final String ASSIGNEE = "auth-1";
+
+    // Left to its own JVM shutdown hook: closed any earlier, it would be gone while the cached context shuts down
+    private static final EmbeddedPostgres POSTGRES = startPostgres();
+
+    // DataSourceRoutingConfig builds the primary pool from spring.datasource
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    @Autowired
+    private TaskService taskService;
+
+    @MockitoBean
+    private ProjectClient projectClient;
+    @MockitoBean
+    private UserClient userClient;
+    @MockitoBean
+    private TaskScheduler taskScheduler;
+
+    // Every test gets a project of its own, so fixtures from other tests never show up in its lists
+    private String projectId;
+    private String rootId;
+    private List<String> taskIds;
+
+    @BeforeEach
+    void setUp() {
+        projectId = UUID.randomUUID().toString();
+        when(projectClient.getProjectById(anyString())).thenReturn(true);
+        when(userClient.getUserById(anyString())).thenReturn(true);
+        when(userClient.getUser(anyString())).thenReturn(EmailAndName.builder()
+                .email(ASSIGNEE + "@example.com")
+                .name(ASSIGNEE)
+                .build());
+        when(userClient.getUsersByIds(anyList())).thenReturn(List.of(UserSummary.builder()
+                .authId(ASSIGNEE)
+                .email(ASSIGNEE + "@example.com")
+                .name(ASSIGNEE)
+                .build()));
+
+        // Three levels under one root: CHILDREN children, each with CHILDREN children of its own
+        List<BulkTaskItem> tree = new ArrayList<>();
+        tree.add(item("root", null));
+        for (int i = 0; i < CHILDREN; i++) {
+            tree.add(item("child-" + i, "root"));
+            for (int j = 0; j < CHILDREN; j++) {
+                tree.add(item("grandchild-" + i + "-" + j, "child-" + i));
+            }
+        }
+        rootId = create(tree).get(0);
+        taskIds = create(flatItems(TASKS));
+    }
+
+    @Test
+    void createTaskChecksProjectAndAssigneeWithoutPerTaskQueries() {
+        CreateTaskRequest request = CreateTaskRequest.builder()
+                .title("new task")
+                .parentId(rootId)
+                .assignedToAuthId(ASSIGNEE)
+                .build();
+        AtomicReference<TaskResponse> response = new AtomicReference<>();
+
+        // parent path + share lock + column lock + last rank + insert + status counter
+        assertMaxStatements(6, () -> response.set(taskService.createTask(request, projectId, AUTH_ID)));
+
+        assertThat(response.get().getParentId()).isEqualTo(rootId);
+    }
+
+    @Test
+    void bulkCreateTasksCostsTheSameForAnyBatchSize() {
+        List<BulkTaskItem> items = new ArrayList<>();
+        items.add(item("parent", null));
+        for (int i = 0; i < TASKS; i++) {
+            BulkTaskItem child = item("child-" + i, "parent");
+            child.setAssignedToAuthId(ASSIGNEE);
+            items.add(child);
+        }
+        AtomicReference<BulkCreateTaskResponse> response = new AtomicReference<>();
+
+        // column lock + last rank + one batched insert + status counter
+        assertMaxStatements(4, () -> response.set(taskService.bulkCreateTasks(
+                BulkCreateTaskRequest.builder().tasks(items).build(), projectId, AUTH_ID)));
+
+        assertThat(response.get().getCreated()).isEqualTo(TASKS + 1);
+    }
+
+    @Test
+    void bulkChangeStatusUpdatesEveryTaskInOneStatement() {
+        BulkStatusChangeRequest request = BulkStatusChangeRequest.builder()
+                .taskIds(taskIds)
+                .status("IN_PROGRESS")
+                .build();
+        AtomicReference<BulkUpdateResponse> response = new AtomicReference<>();
+
+        // column lock + last rank + update + one counter upsert per status touched (old and new)
+        assertMaxStatements(5, () -> response.set(taskService.bulkChangeStatus(projectId, request)));
+
+        assertThat(response.get().getUpdated()).isEqualTo(TASKS);
+    }
+
+    @Test
+    void bulkAssignUpdatesEveryTaskInOneStatement() {
+        BulkAssignRequest request = BulkAssignRequest.builder()
+                .taskIds(taskIds)
+                .assignedToAuthId(ASSIGNEE)
+                .build();
+        AtomicReference<BulkUpdateResponse> response = new AtomicReference<>();
+
+        // update + outbox ids (the sequence hands out 50 at a time, twice on first use) + one batched outbox insert
+        assertMaxStatements(4, () -> response.set(taskService.bulkAssign(projectId, request)));
+
+        assertThat(response.get().getUpdated()).isEqualTo(TASKS);
+    }
+
+    @Test
+    void getTasksByProjectLoadsAPageInOneQuery() {
+        List<TaskListResponse> page = new ArrayList<>();
+
+        // rows + total count
+        assertMaxStatements(2, () -> page.addAll(taskService.getTasksByProject(projectId, 0, TASKS, null,
+                new TaskListFilter()).getContent()));
+
+        assertThat(page).hasSize(TASKS);
+    }
+
+    @Test
+    void getTasksByProjectAfterLoadsAPageInOneQuery() {
+        AtomicReference<CursorPageResponse<TaskListResponse>> page = new AtomicReference<>();
+
+        assertMaxStatements(1, () -> page.set(taskService.getTasksByProjectAfter(projectId, null, TASKS, null,
+                new TaskListFilter())));
+
+        assertThat(page.get().getContent()).hasSize(TASKS);
+    }
+
+    @Test
+    void getBoardLoadsEveryColumnInOneQuery() {
+        AtomicReference<TaskBoardResponse> board = new AtomicReference<>();
+
+        assertMaxStatements(1, () -> board.set(taskService.getBoard(projectId, null, null, TASKS + SUBTREE_SIZE, null,
+                new TaskListFilter())));
+
+        assertThat(board.get().getColumns())
+                .flatExtracting(TaskBoardColumn::getTasks)
+                .hasSize(TASKS + SUBTREE_SIZE);
+    }
+
+    @Test
+    void updateTaskLoadsSubtreeInOneQuery() {
+        UpdateTaskRequest request = new UpdateTaskRequest();
+        request.setTitle("renamed");
+        AtomicReference<TaskResponse> response = new AtomicReference<>();
+
+        // load + update + path + hot subtree + archived subtree
+        assertMaxStatements(5, () -> response.set(taskService.updateTask(rootId, request)));
+
+        assertThat(response.get().getTitle()).isEqualTo("renamed");
+        assertThat(size(response.get())).isEqualTo(SUBTREE_SIZE);
+    }
+
+    @Test
+    void getTaskByIdLoadsSubtreeInOneQuery() {
+        AtomicReference<TaskResponse> response = new AtomicReference<>();
+
+        // path + hot subtree + archived subtree
+        assertMaxStatements(3, () -> response.set(taskService.getTaskById(rootId, null)));
+
+        assertThat(size(response.get())).isEqualTo(SUBTREE_SIZE);
+    }
+
+    private List<String> create(List<BulkTaskItem> items) {
+        return taskService.bulkCreateTasks(BulkCreateTaskRequest.builder().tasks(items).build(), projectId, AUTH_ID)
+                .getIds();
+    }
+
+    private static List<BulkTaskItem> flatItems(int count) {
+        List<BulkTaskItem> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            BulkTaskItem item = item("task-" + i, null);
+            item.setDueDate(OffsetDateTime.parse("2025-06-01T09:30:00Z").plusDays(i));
+            items.add(item);
+        }
+        return items;
+    }
+
+    private static BulkTaskItem item(String ref, String parentRef) {
+        return BulkTaskItem.builder()
+                .ref(ref)
+                .parentRef(parentRef)
+                .title(ref)
+                .build();
+    }
+
+    private static int size(TaskResponse tree) {
+        return 1 + tree.getSubTasks().stream().mapToInt(QueryCountTests::size).sum();
+    }
+
+    private static EmbeddedPostgres startPostgres() {
+        try {
+            return EmbeddedPostgres.builder().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.task.task_service.service.impl;
+
+import com.task.task_service.model.Status;
+import com.task.task_service.repository.TaskRepository;
+import com.task.task_service.repository.projection.BoardCardRank;
+import com.task.task_service.util.BoardRank;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Runs the rebalance against an in-memory column standing in for the tasks table
+class BoardRankRebalancerTests {
+    private static final String PROJECT = "project-1";
+    private static final int MAX_LENGTH = 24;
+    private static final int BATCH_SIZE = 7;
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final List<BoardCardRank> column = new ArrayList<>();
+    private final List<Integer> batchSizes = new ArrayList<>();
+    private BoardRankRebalancer rebalancer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+        when(taskRepository.tryLockBoardColumn(PROJECT, Status.TODO)).thenReturn(true);
+        when(taskRepository.findBoardColumnRanks(PROJECT, Status.TODO)).thenAnswer(invocation -> sortedColumn());
+        doAnswer(invocation -> {
+            List<String> ids = invocation.getArgument(0);
+            List<String> ranks = invocation.getArgument(1);
+            for (int i = 0; i < ids.size(); i++) {
+                String id = ids.get(i);
+                String rank = ranks.get(i);
+                column.replaceAll(card -> card.id().equals(id) ? new BoardCardRank(id, rank) : card);
+            }
+            batchSizes.add(ids.size());
+            // Every batch commits on its own, so the column must be in its original order after each one
+            assertThat(sortedColumn().stream().map(BoardCardRank::id).toList()).isEqualTo(originalOrder());
+            return null;
+        }).when(taskRepository).updateBoardRanks(anyList(), anyList());
+        rebalancer = new BoardRankRebalancer(taskRepository, transactionTemplate, MAX_LENGTH, BATCH_SIZE);
+    }
+
+    @Test
+    void keysUpToMaxLengthDoNotQueueTheColumn() {
+        rebalancer.checkLength(PROJECT, Status.TODO, MAX_LENGTH);
+
+        rebalancer.rebalancePending();
+
+        verify(taskRepository, never()).tryLockBoardColumn(PROJECT, Status.TODO);
+    }
+
+    @Test
+    void repeatedTopInsertsQueueTheColumnOnceAKeyPassesMaxLength() {
+        String top = BoardRank.after(null);
+        int inserts = 0;
+        while (top.length() <= MAX_LENGTH) {
+            top = BoardRank.between(null, top);
+            inserts++;
+            rebalancer.checkLength(PROJECT, Status.TODO, top.length());
+        }
+        // About one digit per six inserts at the same spot
+        assertThat(inserts).isBetween(MAX_LENGTH * 5, MAX_LENGTH * 7);
+
+        rebalancer.rebalancePending();
+
+        verify(taskRepository).tryLockBoardColumn(PROJECT, Status.TODO);
+    }
+
+    @Test
+    void rewritesTheColumnInBoundedBatchesKeepingItsOrder() {
+        // A dense run of long keys at the top (repeated top inserts) above short, sparse keys
+        String top = "V";
+        for (int i = 0; i < 30; i++) {
+            top = BoardRank.between(null, top);
+            column.add(new BoardCardRank("top-" + i, top));
+        }
+        String bottom = "V";
+        for (int i = 0; i < 20; i++) {
+            column.add(new BoardCardRank("bottom-" + i, bottom));
+            bottom = BoardRank.after(bottom);
+        }
+        List<String> order = originalOrder();
+
+        rebalancer.checkLength(PROJECT, Status.TODO, MAX_LENGTH + 1);
+        rebalancer.rebalancePending();
+
+        assertThat(batchSizes).isNotEmpty().allSatisfy(size -> assertThat(size).isLessThanOrEqualTo(BATCH_SIZE));
+        assertThat(sortedColumn().stream().map(BoardCardRank::id).toList()).isEqualTo(order);
+        assertThat(sortedColumn().stream().map(BoardCardRank::boardRank).toList())
+                .isEqualTo(BoardRank.evenlySpaced(column.size()));
+    }
+
+    @Test
+    void aLockedColumnIsRetriedOnTheNextRun() {
+        when(taskRepository.tryLockBoardColumn(PROJECT, Status.TODO)).thenReturn(false, true);
+        rebalancer.checkLength(PROJECT, Status.TODO, MAX_LENGTH + 1);
+
+        rebalancer.rebalancePending();
+        rebalancer.rebalancePending();
+
+        verify(taskRepository).findBoardColumnRanks(PROJECT, Status.TODO);
+    }
+
+    private List<BoardCardRank> sortedColumn() {
+        return column.stream()
+                .sorted(Comparator.comparing(BoardCardRank::boardRank).thenComparing(BoardCardRank::id))
+                .toList();
+    }
+
+    private List<String> originalOrder() {
+        return column.stream()
+                .map(BoardCardRank::id)
+                .sorted(Comparator.comparing((String id) -> id.startsWith("top-") ? 0 : 1)
+                        .thenComparing(id -> id.startsWith("top-")
+                                ? -Integer.parseInt(id.substring(4))
+                                : Integer.parseInt(id.substring(7))))
+                .toList();
+    }
+}
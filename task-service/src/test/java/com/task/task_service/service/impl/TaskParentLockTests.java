@@ -0,0 +1,52 @@
+package com.task.task_service.service.impl;
+
+import com.task.task_service.cache.ProjectExistenceCache;
+import com.task.task_service.dto.CreateTaskRequest;
+import com.task.task_service.exception.ConflictException;
+import com.task.task_service.feign.UserClient;
+import com.task.task_service.messaging.EventPublisher;
+import com.task.task_service.repository.TaskActivityRepository;
+import com.task.task_service.repository.TaskRepository;
+import com.task.task_service.repository.TaskStatusCounterRepository;
+import com.task.task_service.repository.projection.TaskPathView;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// The parent's path is read unlocked, then share-locked and compared; a move in between means reading again
+class TaskParentLockTests {
+    private static final String PROJECT = "project-1";
+    private static final String PARENT = "parent-1";
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final TaskServiceImpl taskService = new TaskServiceImpl(taskRepository, mock(ProjectExistenceCache.class),
+            mock(UserClient.class), mock(EventPublisher.class), mock(TaskHierarchyLoader.class),
+            mock(ConcurrentChecks.class), mock(TaskSubtreeDeleter.class), mock(EntityManager.class),
+            mock(TaskStatusCounters.class), mock(TaskStatusCounterRepository.class), mock(TaskActivityWriter.class),
+            mock(TaskActivityRepository.class), mock(BoardRankRebalancer.class), 500);
+
+    @Test
+    void createTaskGivesUpWithAConflictWhenTheParentKeepsMoving() {
+        // Every locked read disagrees with the unlocked one before it
+        when(taskRepository.findPathsByIdIn(anyCollection()))
+                .thenReturn(List.of(new TaskPathView(PARENT, PROJECT, "", 0)));
+        when(taskRepository.lockPathsShared(anyCollection()))
+                .thenReturn(List.of(new TaskPathView(PARENT, PROJECT, "elsewhere/", 1)));
+        CreateTaskRequest request = CreateTaskRequest.builder()
+                .title("child")
+                .parentId(PARENT)
+                .build();
+
+        assertThatThrownBy(() -> taskService.createTask(request, PROJECT, "auth-0"))
+                .isInstanceOf(ConflictException.class);
+        verify(taskRepository, times(3)).lockPathsShared(anyCollection());
+    }
+}
@@ -0,0 +1,42 @@
+package com.task.task_service.service.impl;
+
+import com.task.task_service.dto.UpdateTaskRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Transaction attributes decide where a call runs: the replica router sends read-only transactions to a replica
+// and everything else to the primary.
+class TaskServiceTransactionTests {
+
+    @Test
+    void updateTaskReadsAndWritesInOneReadWriteTransaction() throws NoSuchMethodException {
+        // Without it the readOnly findById picks a replica and the following save runs in a separate transaction
+        TransactionAttribute attribute = attribute(TaskServiceImpl.class.getMethod("updateTask", String.class, UpdateTaskRequest.class));
+
+        assertThat(attribute).isNotNull();
+        assertThat(attribute.isReadOnly()).isFalse();
+    }
+
+    @Test
+    void activityReadsRunInOneReadOnlyTransaction() throws NoSuchMethodException {
+        // The task lookup and the history page see one snapshot and may be served by a replica
+        TransactionAttribute taskActivity = attribute(TaskServiceImpl.class.getMethod("getTaskActivity",
+                String.class, String.class, String.class, int.class));
+        TransactionAttribute projectActivity = attribute(TaskServiceImpl.class.getMethod("getProjectActivity",
+                String.class, String.class, int.class));
+
+        assertThat(taskActivity).isNotNull();
+        assertThat(taskActivity.isReadOnly()).isTrue();
+        assertThat(projectActivity).isNotNull();
+        assertThat(projectActivity.isReadOnly()).isTrue();
+    }
+
+    private static TransactionAttribute attribute(Method method) {
+        return new AnnotationTransactionAttributeSource().getTransactionAttribute(method, TaskServiceImpl.class);
+    }
+}
@@ -0,0 +1,90 @@
+package com.task.task_service.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoardRankTests {
+
+    @Test
+    void betweenSortsStrictlyBetweenItsNeighbours() {
+        assertThat(BoardRank.between("V", "W")).isGreaterThan("V").isLessThan("W");
+        assertThat(BoardRank.between("V", "V1")).isGreaterThan("V").isLessThan("V1");
+        assertThat(BoardRank.between("Vz", "W")).isGreaterThan("Vz").isLessThan("W");
+        assertThat(BoardRank.between("0001", "0002")).isGreaterThan("0001").isLessThan("0002");
+    }
+
+    @Test
+    void topAndBottomOfAColumn() {
+        String only = BoardRank.between(null, null);
+        // A null lower is the top of the column, a null upper the bottom
+        assertThat(BoardRank.between(null, only)).isLessThan(only);
+        assertThat(BoardRank.between(only, null)).isGreaterThan(only);
+        assertThat(BoardRank.after(only)).isGreaterThan(only);
+        assertThat(BoardRank.after("zzz")).isGreaterThan("zzz");
+    }
+
+    @Test
+    void randomInsertsKeepTheColumnSorted() {
+        Random random = new Random(42);
+        List<String> column = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            int position = random.nextInt(column.size() + 1);
+            String lower = position == 0 ? null : column.get(position - 1);
+            String upper = position == column.size() ? null : column.get(position);
+            String key = BoardRank.between(lower, upper);
+            assertThat(key).doesNotEndWith("0");
+            column.add(position, key);
+        }
+        assertThat(column).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void repeatedTopInsertsGrowAboutOneDigitPerSixInserts() {
+        String top = BoardRank.after(null);
+        for (int i = 1; i <= 120; i++) {
+            String next = BoardRank.between(null, top);
+            assertThat(next).isLessThan(top);
+            top = next;
+        }
+        assertThat(top.length()).isBetween(120 / 7, 120 / 5 + 1);
+    }
+
+    @Test
+    void appendingToTheBottomGrowsSlowly() {
+        String bottom = null;
+        for (int i = 0; i < 1000; i++) {
+            String next = BoardRank.after(bottom);
+            if (bottom != null) {
+                assertThat(next).isGreaterThan(bottom);
+            }
+            bottom = next;
+        }
+        assertThat(bottom.length()).isLessThanOrEqualTo(1000 / 30 + 1);
+    }
+
+    @Test
+    void evenlySpacedKeysAreShortSortedAndLeaveRoomBetween() {
+        for (int count : new int[]{1, 10, 62, 1000, 100_000}) {
+            List<String> keys = BoardRank.evenlySpaced(count);
+            assertThat(keys).hasSize(count).isSorted().doesNotHaveDuplicates();
+            int width = 1 + (int) Math.ceil(Math.log(count + 1) / Math.log(62));
+            assertThat(keys).allSatisfy(key -> assertThat(key.length()).isLessThanOrEqualTo(width));
+            // A card dropped between two rebalanced neighbours gets a key at most one digit longer
+            if (count > 1) {
+                assertThat(BoardRank.between(keys.get(0), keys.get(1)).length()).isLessThanOrEqualTo(width + 1);
+            }
+        }
+    }
+
+    @Test
+    void rejectsBoundsThatAreNotAscending() {
+        assertThatThrownBy(() -> BoardRank.between("W", "V")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BoardRank.between("V", "V")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,11 +1,14 @@
 package com.tenant.tenant_service;
 
+import com.taskmanager.shared.feign.FeignObservationConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Import;
 
 @SpringBootApplication
 @EnableFeignClients
+@Import(FeignObservationConfig.class)
 public class TenantServiceApplication {
 
 	public static void main(String[] args) {
@@ -2,12 +2,17 @@ package com.tenant.tenant_service.client;
 
 import com.tenant.tenant_service.config.FeignClientConfig;
 import com.tenant.tenant_service.dto.EmailAndName;
+import com.tenant.tenant_service.dto.UserDetail;
 import com.tenant.tenant_service.dto.UserLookupResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.List;
+
 @FeignClient(
         name = "user-service",
         url = "http://localhost:8082/api/users",
@@ -19,4 +24,7 @@ public interface UserClient {
 
     @GetMapping("/email/{authId}")
     EmailAndName getEmailById(@PathVariable String authId);
+
+    @PostMapping("/betch-fetch")
+    List<UserDetail> getUsersByIds(@RequestBody List<String> authIds);
 }
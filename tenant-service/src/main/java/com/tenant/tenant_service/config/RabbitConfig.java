@@ -28,6 +28,8 @@ public class RabbitConfig {
                                          Jackson2JsonMessageConverter converter) {
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
         rabbitTemplate.setMessageConverter(converter);
+        // Times every publish as spring.rabbit.template (this bean replaces Boot's, so the property would not apply)
+        rabbitTemplate.setObservationEnabled(true);
         return rabbitTemplate;
     }
 }
@@ -0,0 +1,16 @@
+package com.tenant.tenant_service.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDetail {
+
+    private String authId;
+    private String email;
+    private String name;
+
+}
@@ -7,10 +7,12 @@ import com.tenant.tenant_service.exception.NotFoundException;
 import com.tenant.tenant_service.model.InvitationStatus;
 import com.tenant.tenant_service.model.OrganizationInvitation;
 import com.tenant.tenant_service.repository.OrganizationInvitationRepo;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 
+@Timed("service.method")
 @Service
 public class InvitationService {
     private final OrganizationInvitationRepo invitationRepo;
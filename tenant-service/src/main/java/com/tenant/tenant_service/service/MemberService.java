@@ -11,6 +11,7 @@ import com.tenant.tenant_service.model.OrganizationMember;
 import com.tenant.tenant_service.model.Role;
 import com.tenant.tenant_service.repository.OrganizationInvitationRepo;
 import com.tenant.tenant_service.repository.OrganizationMemberRepo;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import static com.tenant.tenant_service.mapping.Mapping.toMemberResponse;
@@ -18,7 +19,11 @@ import static com.tenant.tenant_service.mapping.Mapping.toMemberResponse;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Timed("service.method")
 @Service
 @Slf4j
 public class MemberService {
@@ -113,17 +118,24 @@ public class MemberService {
             throw new NotFoundException("Members not found!");
         }
 
+        // One batch call to user service for every member, not one call per member
+        Map<String, UserDetail> usersByAuthId = userService.getUsersByIds(membersList.stream()
+                        .map(OrganizationMember::getAuthId)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(UserDetail::getAuthId, Function.identity()));
+
         return membersList.stream()
                 .map(member -> {
-                    // Call user service to get user info
-                    EmailAndName user = userService.getEmailById(member.getAuthId());
+                    // Members without a profile yet are listed without email and name
+                    UserDetail user = usersByAuthId.get(member.getAuthId());
 
                     return MemberResponse.builder()
                             .id(member.getId())
                             .orgId(member.getOrgId())
                             .authId(member.getAuthId())
-                            .email(user.getEmail())    // from user service
-                            .name(user.getName())      // from user service
+                            .email(user != null ? user.getEmail() : null)    // from user service
+                            .name(user != null ? user.getName() : null)      // from user service
                             .role(member.getRole().name())  // from member table
                             .joinedAt(member.getJoinedAt())
                             .build();
@@ -9,6 +9,7 @@ import com.tenant.tenant_service.model.*;
 import com.tenant.tenant_service.repository.OrganizationInvitationRepo;
 import com.tenant.tenant_service.repository.OrganizationMemberRepo;
 import com.tenant.tenant_service.repository.OrganizationRepo;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 
 import java.time.OffsetDateTime;
@@ -18,6 +19,7 @@ import static com.tenant.tenant_service.mapping.Mapping.toMemberResponse;
 import static com.tenant.tenant_service.mapping.Mapping.toOrganizationResponse;
 
 
+@Timed("service.method")
 @Service
 public class OrganizationService {
     private final OrganizationRepo organizationRepo;
@@ -160,17 +162,20 @@ public class OrganizationService {
             return Collections.emptyList();
         }
 
+        // One IN query for all the user's organizations rather than a findById per membership
+        Map<String, Organization> orgsById = new HashMap<>();
+        organizationRepo.findAllById(members.stream().map(OrganizationMember::getOrgId).toList())
+                .forEach(org -> orgsById.put(org.getId(), org));
+
         return members.stream()
                 .map(member -> {
-                    Optional<Organization> orgOpt = organizationRepo.findById(member.getOrgId());
+                    Organization org = orgsById.get(member.getOrgId());
 
-                    if (orgOpt.isEmpty()) {
+                    if (org == null) {
                         // Skip invalid or deleted organizations instead of throwing
                         return null;
                     }
 
-                    Organization org = orgOpt.get();
-
                     return RoleAndorgId.builder()
                             .orgId(member.getOrgId())
                             .role(member.getRole().name())
@@ -2,9 +2,14 @@ package com.tenant.tenant_service.service;
 
 import com.tenant.tenant_service.client.UserClient;
 import com.tenant.tenant_service.dto.EmailAndName;
+import com.tenant.tenant_service.dto.UserDetail;
 import com.tenant.tenant_service.dto.UserLookupResponse;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
+@Timed("service.method")
 @Service
 public class UserService {
     private final UserClient userClient;
@@ -20,5 +25,9 @@ public class UserService {
     public EmailAndName getEmailById(String authId){
         return userClient.getEmailById(authId);
     }
+
+    public List<UserDetail> getUsersByIds(List<String> authIds){
+        return userClient.getUsersByIds(authIds);
+    }
 }
 
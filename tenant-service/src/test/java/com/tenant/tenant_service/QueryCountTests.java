@@ -0,0 +1,118 @@
+package com.tenant.tenant_service;
+
+import com.tenant.tenant_service.client.UserClient;
+import com.tenant.tenant_service.dto.MemberResponse;
+import com.tenant.tenant_service.dto.RoleAndorgId;
+import com.tenant.tenant_service.dto.UserDetail;
+import com.tenant.tenant_service.model.Organization;
+import com.tenant.tenant_service.model.OrganizationMember;
+import com.tenant.tenant_service.model.Role;
+import com.tenant.tenant_service.repository.OrganizationMemberRepo;
+import com.tenant.tenant_service.repository.OrganizationRepo;
+import com.tenant.tenant_service.service.MemberService;
+import com.tenant.tenant_service.service.OrganizationService;
+import com.taskmanager.shared.test.QueryCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.taskmanager.shared.test.QueryCounter.assertMaxStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Query budgets for the read paths that used to issue a query (or a user-service call) per row. Runs on an
+// in-memory H2 in PostgreSQL mode; the budgets hold whatever the fixture size.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:tenant_query_count;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "app.tracing.span-file="
+})
+@Import(QueryCounter.class)
+class QueryCountTests {
+    private static final int ORGANIZATIONS = 10;
+    private static final int MEMBERS = 25;
+    private static final String AUTH_ID = "auth-0";
+
+    @Autowired
+    private OrganizationService organizationService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private OrganizationRepo organizationRepo;
+    @Autowired
+    private OrganizationMemberRepo memberRepo;
+
+    @MockitoBean
+    private UserClient userClient;
+
+    private String orgId;
+
+    @BeforeEach
+    void setUp() {
+        memberRepo.deleteAll();
+        organizationRepo.deleteAll();
+
+        // AUTH_ID belongs to every organization; the first one has MEMBERS members in all
+        List<OrganizationMember> members = new ArrayList<>();
+        for (int i = 0; i < ORGANIZATIONS; i++) {
+            Organization org = organizationRepo.save(Organization.builder()
+                    .name("org-" + i)
+                    .ownerAuthId(AUTH_ID)
+                    .build());
+            members.add(member(org.getId(), AUTH_ID, i == 0 ? Role.OWNER : Role.MEMBER));
+            if (i == 0) {
+                orgId = org.getId();
+            }
+        }
+        List<UserDetail> users = new ArrayList<>();
+        users.add(new UserDetail(AUTH_ID, AUTH_ID + "@example.com", AUTH_ID));
+        for (int i = 1; i < MEMBERS; i++) {
+            members.add(member(orgId, "auth-" + i, Role.MEMBER));
+            users.add(new UserDetail("auth-" + i, "auth-" + i + "@example.com", "auth-" + i));
+        }
+        memberRepo.saveAll(members);
+        when(userClient.getUsersByIds(anyList())).thenReturn(users);
+    }
+
+    @Test
+    void getMyOrganizationsLoadsOrganizationsInOneQuery() {
+        List<RoleAndorgId> organizations = new ArrayList<>();
+
+        // memberships + organizations
+        assertMaxStatements(2, () -> organizations.addAll(organizationService.getMyOrganizations(AUTH_ID)));
+
+        assertThat(organizations).hasSize(ORGANIZATIONS);
+    }
+
+    @Test
+    void getMembersFetchesUsersInOneCall() {
+        List<MemberResponse> members = new ArrayList<>();
+
+        assertMaxStatements(1, () -> members.addAll(memberService.getMembers(orgId)));
+
+        assertThat(members).hasSize(MEMBERS).allSatisfy(member -> assertThat(member.getEmail()).isNotNull());
+        verify(userClient, times(1)).getUsersByIds(anyList());
+    }
+
+    private static OrganizationMember member(String orgId, String authId, Role role) {
+        return OrganizationMember.builder()
+                .orgId(orgId)
+                .authId(authId)
+                .role(role)
+                .joinedAt(OffsetDateTime.now())
+                .build();
+    }
+}
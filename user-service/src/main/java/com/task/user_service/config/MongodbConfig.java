@@ -1,10 +1,23 @@
 package com.task.user_service.config;
 
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
+import org.springframework.data.mongodb.observability.ContextProviderFactory;
+import org.springframework.data.mongodb.observability.MongoObservationCommandListener;
 
 @Configuration
 @EnableMongoAuditing
 public class MongodbConfig {
 
+    // Each Mongo command becomes a span under the request that issued it (lookups sit on the
+    // project/tenant critical path)
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoObservationCustomizer(ObservationRegistry observationRegistry) {
+        return settings -> settings
+                .contextProvider(ContextProviderFactory.create(observationRegistry))
+                .addCommandListener(new MongoObservationCommandListener(observationRegistry));
+    }
 }
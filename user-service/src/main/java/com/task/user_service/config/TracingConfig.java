@@ -0,0 +1,12 @@
+package com.task.user_service.config;
+
+import com.taskmanager.shared.tracing.SpanFileTracing;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+// Span file export (off unless app.tracing.span-file is set) comes from the shared SpanFileTracing in shared/.
+// Setting MANAGEMENT_OTLP_TRACING_ENDPOINT additionally ships spans over OTLP/HTTP.
+@Configuration
+@Import(SpanFileTracing.class)
+public class TracingConfig {
+}
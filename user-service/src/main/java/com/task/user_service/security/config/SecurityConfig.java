@@ -45,6 +45,8 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/users/lookup", "/api/users/validate/**", "/api/users/email/**", "/api/users/betch-fetch").permitAll()
                         .requestMatchers(HttpMethod.POST,"/api/users").permitAll()
+                        // Health checks and the Prometheus scraper carry no user token
+                        .requestMatchers(HttpMethod.GET, "/actuator/health/**", "/actuator/prometheus").permitAll()
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -2,12 +2,14 @@ package com.task.user_service.service;
 
 import com.cloudinary.Cloudinary;
 import com.cloudinary.utils.ObjectUtils;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.Map;
 
+@Timed("service.method")
 @Service
 public class CloudinaryService {
     private final Cloudinary cloudinary;
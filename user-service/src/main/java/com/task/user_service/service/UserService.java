@@ -4,12 +4,14 @@ import com.task.user_service.dto.*;
 import com.task.user_service.model.Role;
 import com.task.user_service.model.UserProfile;
 import com.task.user_service.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 import java.util.Map;
 
+@Timed("service.method")
 @Service
 public class UserService {
     private final CloudinaryService cloudinaryService;